@@ -5,6 +5,8 @@ import com.itsschatten.yggdrasil.anvilgui.interfaces.ClickHandler;
 import com.itsschatten.yggdrasil.anvilgui.interfaces.Response;
 import com.itsschatten.yggdrasil.menus.utils.CloseReason;
 import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
+import com.itsschatten.yggdrasil.scheduler.Schedulers;
+import com.itsschatten.yggdrasil.scheduler.YggdrasilScheduler;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -90,7 +92,7 @@ public final class AnvilGUI {
     // Executors and Handlers.
 
     /**
-     * The main executor for the inventory, defaults to the server's main thread.
+     * The main executor for the inventory, defaults to the thread owning the player, the server's main thread when not on Folia.
      */
     private final Executor executor;
 
@@ -321,7 +323,7 @@ public final class AnvilGUI {
             configure();
 
             final AnvilGUI gui = new AnvilGUI(this.plugin, null, holder, this.inputLeft, this.inputRight, this.output,
-                    this.preventClosing, this.interactableSlots, this.executor, this.onClose, this.clickHandler, this.concurrentClickHandlers,
+                    this.preventClosing, this.interactableSlots, executorFor(holder.player()), this.onClose, this.clickHandler, this.concurrentClickHandlers,
                     this.response, this.title, this.itemText);
             gui.openInventory();
             return gui;
@@ -339,7 +341,7 @@ public final class AnvilGUI {
             configure();
 
             final AnvilGUI gui = new AnvilGUI(this.plugin, player, null, this.inputLeft, this.inputRight, this.output,
-                    this.preventClosing, this.interactableSlots, this.executor, this.onClose, this.clickHandler, this.concurrentClickHandlers,
+                    this.preventClosing, this.interactableSlots, executorFor(player), this.onClose, this.clickHandler, this.concurrentClickHandlers,
                     this.response, this.title, this.itemText);
             gui.openInventory();
             return gui;
@@ -369,10 +371,16 @@ public final class AnvilGUI {
                     this.inputLeft.setItemMeta(meta);
                 }
             }
+        }
 
-            if (this.executor == null) {
-                this.executor = (task) -> Bukkit.getScheduler().runTask(this.plugin, task);
-            }
+        /**
+         * Get the executor for a player, defaults to running tasks on the thread owning the player.
+         *
+         * @param player The player the anvil is opened for.
+         * @return The configured {@link Executor}, or the player's {@link YggdrasilScheduler#executor(org.bukkit.entity.Entity) executor}.
+         */
+        private Executor executorFor(final Player player) {
+            return this.executor != null ? this.executor : Schedulers.get().executor(player);
         }
 
     }
@@ -0,0 +1,50 @@
+plugins {
+    java
+
+    // Runs JMH benchmarks from the jmh source set.
+    alias(libs.plugins.jmh)
+}
+
+group = "com.itsschatten"
+version = "1.0-SNAPSHOT"
+
+repositories {
+    mavenCentral()
+    maven("https://repo.papermc.io/repository/maven-public/")
+
+    maven {
+        url = uri("https://repo.maven.apache.org/maven2/")
+    }
+}
+
+dependencies {
+    // The menus and common modules only compile against these, the benchmarks need them at runtime.
+    jmh(libs.paper)
+    jmh(libs.commons.lang)
+    jmh(libs.jetbrains.annotations)
+
+    jmh(project(":common"))
+    jmh(project(":menus"))
+}
+
+java {
+    toolchain.languageVersion.set(JavaLanguageVersion.of(21))
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh.ver)
+
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+
+    // Run a subset of benchmarks with -PjmhIncludes=<regex>.
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = Charsets.UTF_8.name()
+}
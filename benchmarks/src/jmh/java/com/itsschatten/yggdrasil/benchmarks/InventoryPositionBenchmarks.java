@@ -0,0 +1,86 @@
+package com.itsschatten.yggdrasil.benchmarks;
+
+import com.itsschatten.yggdrasil.menus.utils.InventoryPosition;
+import com.itsschatten.yggdrasil.menus.utils.SlotMask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link InventoryPosition} and {@link SlotMask} calls made for every drawn and clicked slot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InventoryPositionBenchmarks {
+
+    private int slot;
+
+    @Benchmark
+    public InventoryPosition of() {
+        slot = (slot + 1) % 54;
+        return InventoryPosition.of(slot / 9, slot % 9);
+    }
+
+    @Benchmark
+    public InventoryPosition fromSlot() {
+        slot = (slot + 1) % 54;
+        return InventoryPosition.fromSlot(slot);
+    }
+
+    @Benchmark
+    public int roundTrip() {
+        slot = (slot + 1) % 54;
+        return InventoryPosition.fromSlot(slot).getEffectiveSlot();
+    }
+
+    @Benchmark
+    public void ofRow(final Blackhole blackhole) {
+        for (int row = 0; row < 6; row++) {
+            blackhole.consume(InventoryPosition.ofRow(row));
+        }
+    }
+
+    @Benchmark
+    public boolean hashLookup() {
+        // Positions are used as keys when matching buttons to slots.
+        slot = (slot + 1) % 54;
+        return Lookup.POSITIONS.contains(InventoryPosition.fromSlot(slot));
+    }
+
+    @Benchmark
+    public boolean maskLookup() {
+        slot = (slot + 1) % 54;
+        return Lookup.MASK.contains(InventoryPosition.fromSlot(slot));
+    }
+
+    @Benchmark
+    public void maskIterate(final Blackhole blackhole) {
+        SlotMask.MIDDLE.union(SlotMask.EDGES).forEach(blackhole::consume);
+    }
+
+    private static final class Lookup {
+
+        private static final Set<InventoryPosition> POSITIONS = new HashSet<>();
+
+        private static final SlotMask MASK;
+
+        static {
+            for (int slot = 0; slot < 54; slot += 2) {
+                POSITIONS.add(InventoryPosition.fromSlot(slot));
+            }
+
+            MASK = SlotMask.of(POSITIONS);
+        }
+
+    }
+
+}
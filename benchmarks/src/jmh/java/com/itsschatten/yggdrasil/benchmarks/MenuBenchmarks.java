@@ -0,0 +1,102 @@
+package com.itsschatten.yggdrasil.benchmarks;
+
+import com.itsschatten.yggdrasil.benchmarks.fake.FakePlayer;
+import com.itsschatten.yggdrasil.benchmarks.fake.FakeServer;
+import com.itsschatten.yggdrasil.items.ItemCreator;
+import com.itsschatten.yggdrasil.menus.buttons.Button;
+import com.itsschatten.yggdrasil.menus.buttons.Buttons;
+import com.itsschatten.yggdrasil.menus.types.StandardMenu;
+import com.itsschatten.yggdrasil.menus.utils.InventoryPosition;
+import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks displaying, refreshing and clicking a {@link StandardMenu}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MenuBenchmarks {
+
+    /**
+     * The number of buttons in the menu.
+     */
+    @Param({"9", "45"})
+    public int buttons;
+
+    private FakeServer server;
+    private MenuHolder holder;
+    private ButtonMenu menu;
+    private int slot;
+
+    @Setup
+    public void setup() {
+        server = FakeServer.install();
+        holder = MenuHolder.wrap(FakePlayer.create("MenuBenchmarks"));
+        menu = new ButtonMenu(buttons);
+        menu.displayTo(holder);
+        server.scheduler().drain(5);
+    }
+
+    @Benchmark
+    public void displayTo() {
+        menu.displayTo(holder);
+        server.scheduler().drain(5);
+    }
+
+    @Benchmark
+    public void refresh() {
+        menu.refresh();
+        server.scheduler().drain(5);
+    }
+
+    @Benchmark
+    public void resolveButton(final Blackhole blackhole) {
+        // Walk every slot, including slots without a button.
+        slot = (slot + 1) % menu.getSize();
+        final InventoryPosition position = InventoryPosition.fromSlot(slot);
+        blackhole.consume(menu.resolveButton(menu.getInventory().getItem(slot), position));
+    }
+
+    /**
+     * A menu filled with simple buttons.
+     */
+    static final class ButtonMenu extends StandardMenu<MenuHolder> {
+
+        private final int buttons;
+
+        ButtonMenu(final int buttons) {
+            super(null, "Benchmark", 54);
+            this.buttons = buttons;
+        }
+
+        @Override
+        public List<Button<MenuHolder>> makeButtons() {
+            final List<Button<MenuHolder>> list = new ArrayList<>(buttons);
+            for (int i = 0; i < buttons; i++) {
+                list.add(Buttons.button()
+                        .item(ItemCreator.of(Material.PAPER).name("Button " + i).lore("Slot " + i).supplier())
+                        .position(InventoryPosition.fromSlot(i))
+                        .onClick((holder, menu, click) -> {
+                        })
+                        .build());
+            }
+            return list;
+        }
+
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.itsschatten.yggdrasil.benchmarks;
+
+import com.itsschatten.yggdrasil.benchmarks.fake.FakePlayer;
+import com.itsschatten.yggdrasil.benchmarks.fake.FakeServer;
+import com.itsschatten.yggdrasil.items.ItemCreator;
+import com.itsschatten.yggdrasil.menus.buttons.Button;
+import com.itsschatten.yggdrasil.menus.types.PaginatedMenu;
+import com.itsschatten.yggdrasil.menus.utils.InventoryPosition;
+import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
+import org.bukkit.Material;
+import org.bukkit.event.inventory.ClickType;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks navigating the pages of a {@link PaginatedMenu} through its navigation buttons.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PaginatedMenuBenchmarks {
+
+    /**
+     * The number of values paged by the menu.
+     */
+    @Param({"100", "10000"})
+    public int values;
+
+    /**
+     * The capacity of the menu's rendered stack cache, {@code 0} disables the cache.
+     */
+    @Param({"0", "256"})
+    public int stackCache;
+
+    private FakeServer server;
+    private MenuHolder holder;
+    private ValueMenu menu;
+    private InventoryPosition next;
+    private InventoryPosition previous;
+    private int page = 1;
+    private boolean forward = true;
+
+    @Setup
+    public void setup() {
+        server = FakeServer.install();
+        holder = MenuHolder.wrap(FakePlayer.create("PaginatedMenuBenchmarks"));
+        menu = new ValueMenu(IntStream.range(0, values).boxed().toList());
+        menu.setStackCacheSize(stackCache);
+        menu.displayTo(holder);
+        server.scheduler().drain(5);
+
+        next = InventoryPosition.of(menu.rows() - 1, 5);
+        previous = InventoryPosition.of(menu.rows() - 1, 3);
+    }
+
+    @Benchmark
+    public void navigate() {
+        // Walk to the last page and back, the way a player flips through a menu.
+        if (page < menu.getTotalPages() && (page == 1 || forward)) {
+            forward = true;
+            page++;
+            click(next);
+        } else {
+            forward = page <= 2;
+            page--;
+            click(previous);
+        }
+        server.scheduler().drain(5);
+    }
+
+    @Benchmark
+    public void refresh() {
+        menu.refresh();
+        server.scheduler().drain(5);
+    }
+
+    private void click(final @NotNull InventoryPosition position) {
+        final Button<MenuHolder> button = menu.resolveButton(menu.getInventory().getItem(position.getEffectiveSlot()), position);
+        if (button != null) {
+            button.onClicked(holder, menu, ClickType.LEFT);
+        }
+    }
+
+    /**
+     * A menu paging numbers.
+     */
+    static final class ValueMenu extends PaginatedMenu<MenuHolder, Integer> {
+
+        ValueMenu(final List<Integer> values) {
+            super(null, "Benchmark", 54, values);
+        }
+
+        @Override
+        public ItemCreator convertToStack(final Integer object) {
+            return ItemCreator.of(Material.PAPER).name("Value " + object).lore("A paged value.").build();
+        }
+
+        @Override
+        public void onClickPageItem(final MenuHolder user, final Integer object, final @NotNull ClickType click) {
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.itsschatten.yggdrasil.benchmarks;
+
+import com.itsschatten.yggdrasil.menus.utils.MenuPaginator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks {@link MenuPaginator#recalculate()}, kept as a baseline for the deprecated eager paginator.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@SuppressWarnings("deprecation")
+public class PaginatorBenchmarks {
+
+    /**
+     * The number of values paged.
+     */
+    @Param({"100", "10000"})
+    public int values;
+
+    /**
+     * The number of values per page.
+     */
+    @Param({"28", "45"})
+    public int cellSize;
+
+    private MenuPaginator<Integer> paginator;
+
+    @Setup
+    public void setup() {
+        paginator = new MenuPaginator<>(cellSize, IntStream.range(0, values).boxed().toList());
+    }
+
+    @Benchmark
+    public MenuPaginator<Integer> recalculate() {
+        paginator.recalculate();
+        return paginator;
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.itsschatten.yggdrasil.benchmarks.fake;
+
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Creates {@link Inventory} stand-ins backed by a plain array.
+ */
+public final class FakeInventory {
+
+    private FakeInventory() {
+    }
+
+    /**
+     * Creates a new chest inventory.
+     *
+     * @param holder The holder of the inventory.
+     * @param size   The size of the inventory.
+     * @return A new {@link Inventory}.
+     */
+    public static @NotNull Inventory create(final @Nullable InventoryHolder holder, final int size) {
+        final ItemStack[] contents = new ItemStack[size];
+
+        return Fakes.of(Inventory.class)
+                .returning("getSize", size)
+                .returning("getType", InventoryType.CHEST)
+                .returning("getHolder", holder)
+                .returning("getViewers", List.of())
+                .answer("getItem", (args) -> contents[(int) args[0]])
+                .answer("setItem", (args) -> {
+                    contents[(int) args[0]] = (ItemStack) args[1];
+                    return null;
+                })
+                .answer("getContents", (args) -> contents.clone())
+                .answer("getStorageContents", (args) -> contents.clone())
+                .answer("setContents", (args) -> {
+                    final ItemStack[] items = (ItemStack[]) args[0];
+                    Arrays.fill(contents, null);
+                    System.arraycopy(items, 0, contents, 0, Math.min(items.length, size));
+                    return null;
+                })
+                .answer("clear", (args) -> {
+                    if (args.length == 0) Arrays.fill(contents, null);
+                    else contents[(int) args[0]] = null;
+                    return null;
+                })
+                .answer("isEmpty", (args) -> Arrays.stream(contents).allMatch((item) -> item == null || item.isEmpty()))
+                .build();
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.itsschatten.yggdrasil.benchmarks.fake;
+
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An {@link ItemMeta} that records properties by name.
+ * <p>
+ * A call with one argument sets the property named after the method, {@code name(value)} and {@code setName(value)} alike,
+ * a call without arguments reads it back, {@code hasName()} checks if it was set.
+ */
+final class FakeItemMeta implements InvocationHandler {
+
+    private final Map<String, Object> properties;
+
+    private FakeItemMeta(final Map<String, Object> properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Creates a new, empty, meta.
+     *
+     * @return A new {@link ItemMeta}.
+     */
+    static @NotNull ItemMeta create() {
+        return create(new HashMap<>());
+    }
+
+    private static @NotNull ItemMeta create(final Map<String, Object> properties) {
+        return (ItemMeta) Proxy.newProxyInstance(ItemMeta.class.getClassLoader(), new Class<?>[]{ItemMeta.class}, new FakeItemMeta(properties));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        final String name = method.getName();
+        final int arguments = args == null ? 0 : args.length;
+
+        switch (name) {
+            case "clone":
+                return create(new HashMap<>(properties));
+            case "equals":
+                return args[0] != null && Proxy.isProxyClass(args[0].getClass())
+                        && Proxy.getInvocationHandler(args[0]) instanceof FakeItemMeta other
+                        && other.properties.equals(properties);
+            case "hashCode":
+                return properties.hashCode();
+            case "toString":
+                return "FakeItemMeta" + properties;
+            default:
+                break;
+        }
+
+        if (arguments == 1) {
+            properties.put(property(name, "set"), args[0]);
+            return method.getReturnType() == boolean.class ? Boolean.TRUE : null;
+        }
+
+        if (arguments == 0) {
+            if (name.startsWith("has")) return properties.containsKey(property(name, "has"));
+
+            final Object value = properties.get(property(name, "get"));
+            if (value != null || !method.getReturnType().isPrimitive()) return value;
+            return method.getReturnType() == boolean.class ? Boolean.FALSE : 0;
+        }
+
+        throw new UnsupportedOperationException("ItemMeta#" + name + " is not faked.");
+    }
+
+    private static @NotNull String property(final @NotNull String method, final @NotNull String prefix) {
+        if (method.length() > prefix.length() && method.startsWith(prefix) && Character.isUpperCase(method.charAt(prefix.length()))) {
+            return method.substring(prefix.length(), prefix.length() + 1).toLowerCase(Locale.ROOT) + method.substring(prefix.length() + 1);
+        }
+        return method;
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.itsschatten.yggdrasil.benchmarks.fake;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * An {@link ItemStack} that keeps its state in plain fields, standing in for the server's item stack.
+ * <p>
+ * Paper's {@link ItemStack} delegates to the server implementation, this class overrides everything the menus module reaches.
+ */
+@SuppressWarnings({"deprecation", "removal"})
+public final class FakeItemStack extends ItemStack {
+
+    private Material type;
+    private int amount;
+    private ItemMeta meta;
+
+    /**
+     * Creates a new stack.
+     *
+     * @param type   The material of the stack.
+     * @param amount The amount of the stack.
+     */
+    public FakeItemStack(final @NotNull Material type, final int amount) {
+        super();
+        this.type = type;
+        this.amount = amount;
+    }
+
+    @Override
+    public @NotNull Material getType() {
+        return type;
+    }
+
+    @Override
+    public void setType(final @NotNull Material type) {
+        this.type = type;
+    }
+
+    @Override
+    public int getAmount() {
+        return amount;
+    }
+
+    @Override
+    public void setAmount(final int amount) {
+        this.amount = amount;
+    }
+
+    @Override
+    public int getMaxStackSize() {
+        return 64;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return type.isAir() || amount <= 0;
+    }
+
+    @Override
+    public ItemMeta getItemMeta() {
+        if (type.isAir()) return null;
+        return meta == null ? FakeItemMeta.create() : meta.clone();
+    }
+
+    @Override
+    public boolean hasItemMeta() {
+        return meta != null;
+    }
+
+    @Override
+    public boolean setItemMeta(final ItemMeta itemMeta) {
+        this.meta = itemMeta == null ? null : itemMeta.clone();
+        return true;
+    }
+
+    @Override
+    public boolean isSimilar(final ItemStack stack) {
+        if (stack == this) return true;
+        return stack instanceof FakeItemStack other && other.type == type && Objects.equals(other.meta, meta);
+    }
+
+    @Override
+    public @NotNull FakeItemStack clone() {
+        final FakeItemStack clone = new FakeItemStack(type, amount);
+        clone.meta = meta == null ? null : meta.clone();
+        return clone;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof FakeItemStack other && other.amount == amount && isSimilar(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, amount, meta);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "FakeItemStack{" + type + " x " + amount + ", meta=" + meta + '}';
+    }
+
+}
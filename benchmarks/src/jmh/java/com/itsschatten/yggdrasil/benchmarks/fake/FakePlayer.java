@@ -0,0 +1,55 @@
+package com.itsschatten.yggdrasil.benchmarks.fake;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Creates {@link Player} stand-ins that have every permission and remember the inventory they have open.
+ */
+public final class FakePlayer {
+
+    private FakePlayer() {
+    }
+
+    /**
+     * Creates a new online player.
+     *
+     * @param name The name of the player.
+     * @return A new {@link Player}.
+     */
+    public static @NotNull Player create(final @NotNull String name) {
+        final UUID id = UUID.nameUUIDFromBytes(("FakePlayer:" + name).getBytes());
+        final AtomicReference<InventoryView> open = new AtomicReference<>();
+
+        return Fakes.of(Player.class)
+                .returning("getUniqueId", id)
+                .returning("getName", name)
+                .returning("isOnline", true)
+                .returning("isConnected", true)
+                .returning("isOp", true)
+                .returning("hasPermission", true)
+                .returning("isPermissionSet", true)
+                .answer("openInventory", (args) -> {
+                    if (!(args[0] instanceof Inventory inventory)) throw new UnsupportedOperationException("Player#openInventory only accepts an Inventory.");
+
+                    final InventoryView view = Fakes.of(InventoryView.class)
+                            .returning("getTopInventory", inventory)
+                            .returning("getType", inventory.getType())
+                            .build();
+                    open.set(view);
+                    return view;
+                })
+                .answer("getOpenInventory", (args) -> open.get())
+                .answer("closeInventory", (args) -> {
+                    open.set(null);
+                    return null;
+                })
+                .build();
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.itsschatten.yggdrasil.benchmarks.fake;
+
+import io.papermc.paper.registry.RegistryAccess;
+import io.papermc.paper.registry.RegistryKey;
+import org.bukkit.Keyed;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.inventory.ItemType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * A {@link RegistryAccess} stand-in, loaded by Paper through the service loader.
+ * <p>
+ * Only the item registry has entries, every {@link ItemType} creates {@link FakeItemStack}s,
+ * every other registry is empty.
+ */
+@SuppressWarnings({"UnstableApiUsage", "deprecation", "removal"})
+public final class FakeRegistryAccess implements RegistryAccess {
+
+    private static final Map<NamespacedKey, ItemType> ITEMS = new ConcurrentHashMap<>();
+
+    /**
+     * Required by the service loader.
+     */
+    public FakeRegistryAccess() {
+    }
+
+    @Override
+    public <T extends Keyed> Registry<T> getRegistry(final @NotNull Class<T> type) {
+        return registry(type == ItemType.class);
+    }
+
+    @Override
+    public <T extends Keyed> @NotNull Registry<T> getRegistry(final @NotNull RegistryKey<T> registryKey) {
+        return registry(registryKey == RegistryKey.ITEM);
+    }
+
+    /**
+     * Creates a registry.
+     *
+     * @param items If the registry is the item registry.
+     * @param <T>   The type of entry.
+     * @return A new {@link Registry}.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Keyed> @NotNull Registry<T> registry(final boolean items) {
+        return Fakes.of(Registry.class)
+                .answer("get", (args) -> items && args[0] instanceof NamespacedKey key ? item(key) : null)
+                .answer("getOrThrow", (args) -> {
+                    final Object value = items && args[0] instanceof NamespacedKey key ? item(key) : null;
+                    if (value == null) throw new IllegalArgumentException("No entry for " + args[0]);
+                    return value;
+                })
+                .answer("match", (args) -> null)
+                .answer("iterator", (args) -> Collections.emptyIterator())
+                .answer("stream", (args) -> Stream.empty())
+                .build();
+    }
+
+    private static ItemType item(final @NotNull NamespacedKey key) {
+        final Material material = Material.getMaterial(key.getKey().toUpperCase(Locale.ROOT));
+        if (material == null) return null;
+
+        return ITEMS.computeIfAbsent(key, (ignored) -> Fakes.of(ItemType.class)
+                .answer("createItemStack", (args) -> new FakeItemStack(material, args.length > 0 && args[0] instanceof Integer amount ? amount : 1))
+                .returning("asMaterial", material)
+                .returning("getKey", key)
+                .returning("key", key)
+                .returning("getMaxStackSize", 64)
+                .build());
+    }
+
+}
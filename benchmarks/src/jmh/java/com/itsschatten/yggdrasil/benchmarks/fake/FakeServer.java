@@ -0,0 +1,124 @@
+package com.itsschatten.yggdrasil.benchmarks.fake;
+
+import com.itsschatten.yggdrasil.Utils;
+import com.itsschatten.yggdrasil.scheduler.ManualTaskScheduler;
+import com.itsschatten.yggdrasil.scheduler.Schedulers;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Installs a fake {@link Server} into {@link Bukkit}, allowing menus to be built and displayed without a server.
+ * <p>
+ * The server is installed once per JVM, Bukkit doesn't allow the server to be replaced.
+ */
+public final class FakeServer {
+
+    private static FakeServer instance;
+
+    private final ManualTaskScheduler scheduler = new ManualTaskScheduler();
+    private final JavaPlugin plugin;
+
+    @SuppressWarnings({"deprecation", "removal"})
+    private FakeServer() {
+        final Logger logger = Logger.getLogger("FakeServer");
+        logger.setLevel(Level.WARNING);
+
+        final ItemFactory items = Fakes.of(ItemFactory.class)
+                .answer("getItemMeta", (args) -> FakeItemMeta.create())
+                .returning("isApplicable", true)
+                .answer("equals", (args) -> args.length == 1 ? args[0] == items() : Objects.equals(args[0], args[1]))
+                .answer("asMetaFor", (args) -> ((ItemMeta) args[0]).clone())
+                .build();
+
+        final PluginManager plugins = Fakes.of(PluginManager.class)
+                .returning("isPluginEnabled", true)
+                .returning("getPlugins", new org.bukkit.plugin.Plugin[0])
+                .build();
+
+        final Server server = Fakes.of(Server.class)
+                .returning("getName", "FakeServer")
+                .returning("getVersion", "benchmarks")
+                .returning("getBukkitVersion", "1.21.5-R0.1-SNAPSHOT")
+                .returning("getLogger", logger)
+                .returning("isPrimaryThread", true)
+                .returning("getPluginManager", plugins)
+                .returning("getItemFactory", items)
+                .returning("getOnlinePlayers", List.of())
+                .answer("getRegistry", (args) -> FakeRegistryAccess.registry(false))
+                .answer("createInventory", (args) -> FakeInventory.create((InventoryHolder) args[0],
+                        args[1] instanceof InventoryType type ? type.getDefaultSize() : (int) args[1]))
+                .build();
+
+        Bukkit.setServer(server);
+
+        final File folder = new File(System.getProperty("java.io.tmpdir"), "yggdrasil-benchmarks");
+        this.plugin = new BenchmarkPlugin(new JavaPluginLoader(server), folder);
+        Utils.setInstance(plugin);
+        Utils.setDebug(false);
+        Schedulers.set(scheduler);
+    }
+
+    /**
+     * Installs the fake server, if it wasn't already installed.
+     *
+     * @return The installed {@link FakeServer}.
+     */
+    public static synchronized @NotNull FakeServer install() {
+        if (instance == null) {
+            instance = new FakeServer();
+        }
+
+        return instance;
+    }
+
+    // Only used to compare the item factory with itself.
+    private static ItemFactory items() {
+        return Bukkit.getItemFactory();
+    }
+
+    /**
+     * Get the scheduler installed for Yggdrasil, every task runs on the benchmark thread when it is ticked.
+     *
+     * @return The {@link ManualTaskScheduler}.
+     */
+    public @NotNull ManualTaskScheduler scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Get the plugin installed as the {@link Utils#getInstance() Yggdrasil instance}.
+     *
+     * @return The {@link JavaPlugin}.
+     */
+    public @NotNull JavaPlugin plugin() {
+        return plugin;
+    }
+
+    /**
+     * The plugin the menus are registered for, created through the plugin test constructor.
+     */
+    private static final class BenchmarkPlugin extends JavaPlugin {
+
+        @SuppressWarnings({"deprecation", "removal"})
+        private BenchmarkPlugin(final JavaPluginLoader loader, final File folder) {
+            super(loader, new PluginDescriptionFile("YggdrasilBenchmarks", "1.0", BenchmarkPlugin.class.getName()), folder, new File(folder, "benchmarks.jar"));
+        }
+
+    }
+
+}
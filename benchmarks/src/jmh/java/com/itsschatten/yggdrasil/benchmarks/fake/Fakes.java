@@ -0,0 +1,118 @@
+package com.itsschatten.yggdrasil.benchmarks.fake;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds reflective stand-ins for Bukkit interfaces, Bukkit interfaces are far too large to implement by hand.
+ * <p>
+ * Only the methods the benchmarks reach are answered, unanswered methods returning {@code void} do nothing,
+ * every other unanswered method throws an {@link UnsupportedOperationException} naming the method,
+ * so a benchmark that starts reaching a new method fails loudly instead of measuring a {@code null}.
+ */
+public final class Fakes {
+
+    private Fakes() {
+    }
+
+    /**
+     * Creates a new fake builder.
+     *
+     * @param type The interface to fake.
+     * @param <I>  The type of interface.
+     * @return A new {@link Builder}.
+     */
+    public static <I> @NotNull Builder<I> of(final @NotNull Class<I> type) {
+        return new Builder<>(type);
+    }
+
+    /**
+     * An answer to a faked method.
+     */
+    @FunctionalInterface
+    public interface Answer {
+
+        /**
+         * Answers a call.
+         *
+         * @param args The arguments of the call, never {@code null}.
+         * @return The result of the call.
+         */
+        Object answer(Object[] args);
+
+    }
+
+    /**
+     * Builds a fake of an interface.
+     *
+     * @param <I> The type of interface.
+     */
+    public static final class Builder<I> {
+
+        private final Class<I> type;
+        private final Map<String, Answer> answers = new HashMap<>();
+
+        private Builder(final Class<I> type) {
+            this.type = type;
+        }
+
+        /**
+         * Answers every overload of a method.
+         *
+         * @param method The name of the method.
+         * @param answer The answer.
+         * @return This builder.
+         */
+        public Builder<I> answer(final @NotNull String method, final @NotNull Answer answer) {
+            answers.put(method, answer);
+            return this;
+        }
+
+        /**
+         * Answers every overload of a method with a constant.
+         *
+         * @param method The name of the method.
+         * @param value  The value to return.
+         * @return This builder.
+         */
+        public Builder<I> returning(final @NotNull String method, final Object value) {
+            return answer(method, (args) -> value);
+        }
+
+        /**
+         * Builds the fake.
+         *
+         * @return A new proxy implementing the interface.
+         */
+        public @NotNull I build() {
+            final Map<String, Answer> answers = Map.copyOf(this.answers);
+            final InvocationHandler handler = new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) {
+                    final Object[] arguments = args == null ? new Object[0] : args;
+                    final Answer answer = answers.get(method.getName());
+                    if (answer != null) return answer.answer(arguments);
+
+                    return switch (method.getName()) {
+                        case "equals" -> proxy == arguments[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "toString" -> "Fake" + type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                        default -> {
+                            if (method.getReturnType() == void.class) yield null;
+                            throw new UnsupportedOperationException(type.getSimpleName() + "#" + method.getName() + " is not faked.");
+                        }
+                    };
+                }
+            };
+
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+
+    }
+
+}
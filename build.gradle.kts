@@ -16,7 +16,8 @@ description = "The library used in most of Paper Plugins coded by ItsSchatten."
 subprojects {
     plugins.apply("maven-publish")
 
-    if (!project.name.contains("plugin", true)) {
+    // Benchmarks are never published, they only measure the other subprojects.
+    if (!project.name.contains("plugin", true) && !project.name.equals("benchmarks", true)) {
         // This 'if-else' statement is required to properly build the Bill of Materials.
         if (!project.name.contains("bom", true)) {
             plugins.apply("java-library")
@@ -1,6 +1,7 @@
 package com.itsschatten.yggdrasil;
 
 import com.google.common.io.ByteStreams;
+import com.itsschatten.yggdrasil.scheduler.Schedulers;
 import com.mojang.brigadier.Message;
 import com.mojang.brigadier.context.CommandContext;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
@@ -64,6 +65,7 @@ public final class Utils {
      */
     public static void setInstance(@Nullable JavaPlugin instance) {
         Utils.instance = instance;
+        Schedulers.reset();
     }
 
     /**
@@ -142,6 +142,30 @@ public final class ItemCreator {
         return stack;
     }
 
+    /**
+     * Creates the {@link ItemStack} through the {@link ItemPool}, sharing it with every creator of the same content.
+     * <p>
+     * <b>The returned {@link ItemStack} is shared and must not be mutated.</b>
+     *
+     * @return Returns the pooled {@link ItemStack}.
+     * @see ItemPool#intern(ItemCreator)
+     */
+    public @NotNull ItemStack makeShared() {
+        return ItemPool.intern(this);
+    }
+
+    /**
+     * Get the content of this creator as an immutable key.
+     *
+     * @return Returns a new {@link ItemPool.Key}, equal to the key of any creator with the same content.
+     */
+    ItemPool.@NotNull Key key() {
+        return new ItemPool.Key(material, amount, name, display,
+                lore == null ? null : List.copyOf(lore),
+                options, manipulators == null ? null : new ArrayList<>(manipulators),
+                meta == null ? null : meta.clone());
+    }
+
     /**
      * The builder class for {@link ItemCreator}.
      */
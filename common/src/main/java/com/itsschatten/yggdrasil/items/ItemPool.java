@@ -0,0 +1,244 @@
+package com.itsschatten.yggdrasil.items;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded pool of immutable {@link ItemStack} prototypes, keyed by the content of the {@link ItemCreator} that made them.
+ * <p>
+ * Two creators with the same material, amount, names, lore, options, manipulators and starting meta will share the same prototype,
+ * so identical items only have to be {@link ItemCreator#make() made} once.
+ * The least recently used prototype is evicted once the pool grows past its {@link #getCapacity() capacity}.
+ * <p>
+ * The pool is meant for static items shared between many buttons, items rendered per value (such as page entries) should be
+ * {@link ItemCreator#make() made} and cached by their owner instead, as they would otherwise evict the shared prototypes.
+ *
+ * @implNote {@link Manipulator}s are compared with {@link Object#equals(Object)}, creators with a manipulator that doesn't override it,
+ * such as a lambda, could never share a prototype and are {@link ItemCreator#make() made} without being pooled.
+ */
+public final class ItemPool {
+
+    /**
+     * The default number of prototypes kept in the pool.
+     */
+    public static final int DEFAULT_CAPACITY = 512;
+
+    /**
+     * The prototypes, ordered by access.
+     */
+    private static final Map<Key, ItemStack> PROTOTYPES = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, ItemStack> eldest) {
+            if (size() > capacity) {
+                EVICTIONS.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * The number of times a prototype was found in the pool.
+     */
+    private static final LongAdder HITS = new LongAdder();
+
+    /**
+     * The number of times a prototype had to be made.
+     */
+    private static final LongAdder MISSES = new LongAdder();
+
+    /**
+     * The number of prototypes evicted from the pool.
+     */
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    /**
+     * If a manipulator type overrides {@link Object#equals(Object)}, so equal manipulators may share a prototype.
+     */
+    private static final ClassValue<Boolean> COMPARABLE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final @NotNull Class<?> type) {
+            try {
+                return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+            } catch (final NoSuchMethodException ex) {
+                return false;
+            }
+        }
+    };
+
+    /**
+     * The maximum number of prototypes kept in the pool.
+     */
+    private static int capacity = DEFAULT_CAPACITY;
+
+    private ItemPool() {
+    }
+
+    /**
+     * Get the shared prototype for the provided {@link ItemCreator}, making it if it isn't pooled.
+     * <p>
+     * <b>The returned {@link ItemStack} is shared and must not be mutated</b>, use {@link #get(ItemCreator)} if a mutable copy is required.
+     * <p>
+     * Creators with a manipulator compared by identity aren't pooled, as no other creator could share their prototype.
+     *
+     * @param creator The creator to get the prototype for.
+     * @return Returns the shared {@link ItemStack}.
+     */
+    public static @NotNull ItemStack intern(final @NotNull ItemCreator creator) {
+        final Key key = creator.key();
+        if (!isComparable(key)) return creator.make();
+
+        synchronized (PROTOTYPES) {
+            final ItemStack pooled = PROTOTYPES.get(key);
+            if (pooled != null) {
+                HITS.increment();
+                return pooled;
+            }
+        }
+
+        // Make the item outside the lock, making an item can take a while.
+        final ItemStack made = creator.make();
+        MISSES.increment();
+
+        synchronized (PROTOTYPES) {
+            final ItemStack raced = PROTOTYPES.putIfAbsent(key, made);
+            return raced == null ? made : raced;
+        }
+    }
+
+    /**
+     * Checks if every manipulator of a key is compared by value.
+     *
+     * @param key The key.
+     * @return {@code true} if the key may be pooled.
+     */
+    private static boolean isComparable(final @NotNull Key key) {
+        if (key.manipulators() == null) return true;
+
+        for (final Manipulator<?> manipulator : key.manipulators()) {
+            if (manipulator != null && !COMPARABLE.get(manipulator.getClass())) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Get a copy of the pooled prototype for the provided {@link ItemCreator}, which is safe to mutate.
+     *
+     * @param creator The creator to get the item for.
+     * @return Returns a copy of the shared {@link ItemStack}.
+     * @see #intern(ItemCreator)
+     */
+    public static @NotNull ItemStack get(final @NotNull ItemCreator creator) {
+        return intern(creator).clone();
+    }
+
+    /**
+     * Removes all prototypes from the pool and resets the counters.
+     */
+    public static void clear() {
+        synchronized (PROTOTYPES) {
+            PROTOTYPES.clear();
+        }
+
+        HITS.reset();
+        MISSES.reset();
+        EVICTIONS.reset();
+    }
+
+    /**
+     * Sets the maximum number of prototypes kept in the pool, evicting the least recently used prototypes if required.
+     *
+     * @param capacity The new capacity, {@code 0} disables pooling.
+     */
+    public static void setCapacity(final int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacity must not be negative, got " + capacity);
+
+        synchronized (PROTOTYPES) {
+            ItemPool.capacity = capacity;
+
+            final var iterator = PROTOTYPES.entrySet().iterator();
+            while (PROTOTYPES.size() > capacity && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                EVICTIONS.increment();
+            }
+        }
+    }
+
+    /**
+     * Get the maximum number of prototypes kept in the pool.
+     *
+     * @return The capacity of the pool.
+     */
+    public static int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Get the number of prototypes currently pooled.
+     *
+     * @return The size of the pool.
+     */
+    public static int size() {
+        synchronized (PROTOTYPES) {
+            return PROTOTYPES.size();
+        }
+    }
+
+    /**
+     * Get the number of lookups that found a pooled prototype.
+     *
+     * @return The number of hits.
+     */
+    public static long hits() {
+        return HITS.sum();
+    }
+
+    /**
+     * Get the number of lookups that had to make a new prototype.
+     *
+     * @return The number of misses.
+     */
+    public static long misses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Get the number of prototypes evicted from the pool.
+     *
+     * @return The number of evictions.
+     */
+    public static long evictions() {
+        return EVICTIONS.sum();
+    }
+
+    /**
+     * The content of an {@link ItemCreator}, used as the key of a pooled prototype.
+     *
+     * @param material     The material.
+     * @param amount       The amount.
+     * @param name         The item name.
+     * @param display      The display name.
+     * @param lore         An immutable copy of the lore.
+     * @param options      The {@link ItemOptions}.
+     * @param manipulators The {@link Manipulator}s.
+     * @param meta         A copy of the starting {@link ItemMeta}.
+     */
+    @ApiStatus.Internal
+    public record Key(@NotNull Material material, int amount,
+                      @Nullable Component name, @Nullable Component display, @Nullable List<Component> lore,
+                      @Nullable ItemOptions options, @Nullable List<Manipulator<?>> manipulators,
+                      @Nullable ItemMeta meta) {
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.itsschatten.yggdrasil.items.manipulators;
 
 import com.itsschatten.yggdrasil.items.MetaManipulator;
+import lombok.EqualsAndHashCode;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.PotionMeta;
 import org.bukkit.potion.PotionEffect;
@@ -12,6 +13,7 @@ import java.util.List;
 /**
  * A prebuilt {@link MetaManipulator} that will add potion effects to a potion.
  */
+@EqualsAndHashCode
 public final class AddPotionEffectsManipulator implements MetaManipulator {
 
     /**
@@ -1,6 +1,7 @@
 package com.itsschatten.yggdrasil.items.manipulators;
 
 import com.itsschatten.yggdrasil.items.MetaManipulator;
+import lombok.EqualsAndHashCode;
 import org.bukkit.Color;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.LeatherArmorMeta;
@@ -11,6 +12,7 @@ import org.jetbrains.annotations.NotNull;
 /**
  * A prebuilt {@link MetaManipulator} that will alter the color of dyeable items.
  */
+@EqualsAndHashCode
 public final class ColorManipulator implements MetaManipulator {
 
     /**
@@ -8,6 +8,7 @@ import com.itsschatten.yggdrasil.items.MetaManipulator;
 import com.itsschatten.yggdrasil.items.SkinTexture;
 import io.papermc.paper.datacomponent.DataComponentTypes;
 import io.papermc.paper.datacomponent.item.ResolvableProfile;
+import lombok.EqualsAndHashCode;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -22,6 +23,7 @@ import java.util.UUID;
 /**
  * A prebuilt {@link MetaManipulator} that will change the skin on a player head item.
  */
+@EqualsAndHashCode
 public final class SkullManipulator implements ItemManipulator {
 
     /**
@@ -0,0 +1,115 @@
+package com.itsschatten.yggdrasil.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link YggdrasilScheduler} backed by the {@link org.bukkit.scheduler.BukkitScheduler}, every tick task runs on the main thread.
+ */
+public final class BukkitTaskScheduler implements YggdrasilScheduler {
+
+    /**
+     * The plugin tasks are scheduled for.
+     */
+    private final Plugin plugin;
+
+    /**
+     * Constructs a new scheduler.
+     *
+     * @param plugin The plugin tasks are scheduled for.
+     */
+    public BukkitTaskScheduler(final @NotNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public @NotNull Task run(final @NotNull Runnable runnable) {
+        return new Handle(Bukkit.getScheduler().runTask(plugin, runnable));
+    }
+
+    @Override
+    public @NotNull Task runLater(final @NotNull Runnable runnable, final long delay) {
+        return new Handle(Bukkit.getScheduler().runTaskLater(plugin, runnable, Math.max(1L, delay)));
+    }
+
+    @Override
+    public @NotNull Task runTimer(final @NotNull Runnable runnable, final long delay, final long period) {
+        return new Handle(Bukkit.getScheduler().runTaskTimer(plugin, runnable, Math.max(1L, delay), Math.max(1L, period)));
+    }
+
+    @Override
+    public @NotNull Task runAsync(final @NotNull Runnable runnable) {
+        return new Handle(Bukkit.getScheduler().runTaskAsynchronously(plugin, runnable));
+    }
+
+    @Override
+    public @NotNull Task run(final @NotNull Entity entity, final @NotNull Runnable runnable, final @Nullable Runnable retired) {
+        return new Handle(Bukkit.getScheduler().runTask(plugin, () -> {
+            if (entity.isValid()) {
+                runnable.run();
+            } else if (retired != null) {
+                retired.run();
+            }
+        }));
+    }
+
+    @Override
+    public @NotNull Task runLater(final @NotNull Entity entity, final @NotNull Runnable runnable, final long delay) {
+        return new Handle(Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            if (entity.isValid()) runnable.run();
+        }, Math.max(1L, delay)));
+    }
+
+    @Override
+    public @NotNull Task runTimer(final @NotNull Entity entity, final @NotNull Runnable runnable, final long delay, final long period) {
+        return new Handle(Bukkit.getScheduler().runTaskTimer(plugin, (task) -> {
+            if (!entity.isValid()) {
+                task.cancel();
+                return;
+            }
+
+            runnable.run();
+        }, Math.max(1L, delay), Math.max(1L, period)));
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(final @NotNull Entity entity) {
+        return Bukkit.isPrimaryThread();
+    }
+
+    @Override
+    public boolean isGlobalThread() {
+        return Bukkit.isPrimaryThread();
+    }
+
+    @Override
+    public String toString() {
+        return "BukkitTaskScheduler{" +
+                "plugin=" + plugin.getName() +
+                '}';
+    }
+
+    /**
+     * A scheduled {@link BukkitTask}.
+     *
+     * @param task The task.
+     */
+    private record Handle(BukkitTask task) implements Task {
+
+        @Override
+        public void cancel() {
+            task.cancel();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+
+    }
+
+}
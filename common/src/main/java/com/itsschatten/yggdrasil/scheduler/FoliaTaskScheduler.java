@@ -0,0 +1,131 @@
+package com.itsschatten.yggdrasil.scheduler;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link YggdrasilScheduler} backed by Folia's schedulers.
+ * <p>
+ * Global tasks run on the {@link io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler global region},
+ * entity tasks on the entity's {@link io.papermc.paper.threadedregions.scheduler.EntityScheduler scheduler},
+ * so work for different players runs on their own region threads.
+ */
+public final class FoliaTaskScheduler implements YggdrasilScheduler {
+
+    /**
+     * A task returned when an entity was removed before its task could be scheduled.
+     */
+    private static final Task RETIRED = new Task() {
+        @Override
+        public void cancel() {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return true;
+        }
+    };
+
+    /**
+     * The plugin tasks are scheduled for.
+     */
+    private final Plugin plugin;
+
+    /**
+     * Constructs a new scheduler, the server must be running Folia's scheduler API.
+     *
+     * @param plugin The plugin tasks are scheduled for.
+     */
+    public FoliaTaskScheduler(final @NotNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public @NotNull Task run(final @NotNull Runnable runnable) {
+        return wrap(Bukkit.getGlobalRegionScheduler().run(plugin, (task) -> runnable.run()));
+    }
+
+    @Override
+    public @NotNull Task runLater(final @NotNull Runnable runnable, final long delay) {
+        return wrap(Bukkit.getGlobalRegionScheduler().runDelayed(plugin, (task) -> runnable.run(), Math.max(1L, delay)));
+    }
+
+    @Override
+    public @NotNull Task runTimer(final @NotNull Runnable runnable, final long delay, final long period) {
+        return wrap(Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, (task) -> runnable.run(), Math.max(1L, delay), Math.max(1L, period)));
+    }
+
+    @Override
+    public @NotNull Task runAsync(final @NotNull Runnable runnable) {
+        return wrap(Bukkit.getAsyncScheduler().runNow(plugin, (task) -> runnable.run()));
+    }
+
+    @Override
+    public @NotNull Task run(final @NotNull Entity entity, final @NotNull Runnable runnable, final @Nullable Runnable retired) {
+        final ScheduledTask task = entity.getScheduler().run(plugin, (scheduled) -> runnable.run(), retired);
+        // Folia only calls the retired callback for entities removed after the task was scheduled.
+        if (task == null && retired != null) retired.run();
+        return wrap(task);
+    }
+
+    @Override
+    public @NotNull Task runLater(final @NotNull Entity entity, final @NotNull Runnable runnable, final long delay) {
+        return wrap(entity.getScheduler().runDelayed(plugin, (task) -> runnable.run(), null, Math.max(1L, delay)));
+    }
+
+    @Override
+    public @NotNull Task runTimer(final @NotNull Entity entity, final @NotNull Runnable runnable, final long delay, final long period) {
+        return wrap(entity.getScheduler().runAtFixedRate(plugin, (task) -> runnable.run(), null, Math.max(1L, delay), Math.max(1L, period)));
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(final @NotNull Entity entity) {
+        return Bukkit.isOwnedByCurrentRegion(entity);
+    }
+
+    @Override
+    public boolean isGlobalThread() {
+        return Bukkit.isGlobalTickThread();
+    }
+
+    @Override
+    public String toString() {
+        return "FoliaTaskScheduler{" +
+                "plugin=" + plugin.getName() +
+                '}';
+    }
+
+    /**
+     * Wraps a Folia task.
+     *
+     * @param task The task, {@code null} if the entity it was scheduled for was removed.
+     * @return The {@link Task}.
+     */
+    private static @NotNull Task wrap(final @Nullable ScheduledTask task) {
+        return task == null ? RETIRED : new Handle(task);
+    }
+
+    /**
+     * A scheduled Folia {@link ScheduledTask}.
+     *
+     * @param task The task.
+     */
+    private record Handle(ScheduledTask task) implements Task {
+
+        @Override
+        public void cancel() {
+            task.cancel();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.itsschatten.yggdrasil.scheduler;
+
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A deterministic, single threaded, {@link YggdrasilScheduler} that only runs tasks when {@link #tick() ticked}.
+ * <p>
+ * Every task, including asynchronous and entity tasks, runs on the thread calling {@link #tick()}, in the order it was scheduled.
+ * The ticking thread owns every entity, and entity tasks ignore whether the entity was removed.
+ * Intended for tests and benchmarks.
+ */
+public final class ManualTaskScheduler implements YggdrasilScheduler {
+
+    /**
+     * Scheduled tasks, in the order they were scheduled.
+     */
+    private final List<ManualTask> tasks = new ArrayList<>();
+
+    /**
+     * The number of ticks run.
+     */
+    private long currentTick;
+
+    @Override
+    public @NotNull Task run(final @NotNull Runnable runnable) {
+        return schedule(runnable, 1, -1);
+    }
+
+    @Override
+    public @NotNull Task runLater(final @NotNull Runnable runnable, final long delay) {
+        return schedule(runnable, delay, -1);
+    }
+
+    @Override
+    public @NotNull Task runTimer(final @NotNull Runnable runnable, final long delay, final long period) {
+        return schedule(runnable, delay, Math.max(1L, period));
+    }
+
+    @Override
+    public @NotNull Task runAsync(final @NotNull Runnable runnable) {
+        return schedule(runnable, 1, -1);
+    }
+
+    @Override
+    public @NotNull Task run(final @NotNull Entity entity, final @NotNull Runnable runnable, final @Nullable Runnable retired) {
+        return run(runnable);
+    }
+
+    @Override
+    public @NotNull Task runLater(final @NotNull Entity entity, final @NotNull Runnable runnable, final long delay) {
+        return runLater(runnable, delay);
+    }
+
+    @Override
+    public @NotNull Task runTimer(final @NotNull Entity entity, final @NotNull Runnable runnable, final long delay, final long period) {
+        return runTimer(runnable, delay, period);
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(final @NotNull Entity entity) {
+        return true;
+    }
+
+    @Override
+    public boolean isGlobalThread() {
+        return true;
+    }
+
+    /**
+     * Runs every task due on the next tick, tasks scheduled while ticking first run on a later tick.
+     */
+    public void tick() {
+        currentTick++;
+
+        final List<ManualTask> due = new ArrayList<>();
+        final Iterator<ManualTask> iterator = tasks.iterator();
+        while (iterator.hasNext()) {
+            final ManualTask task = iterator.next();
+            if (task.nextRun > currentTick) continue;
+
+            due.add(task);
+            if (task.period < 0) {
+                iterator.remove();
+            } else {
+                task.nextRun = currentTick + task.period;
+            }
+        }
+
+        for (final ManualTask task : due) {
+            if (!task.cancelled) task.runnable.run();
+        }
+    }
+
+    /**
+     * Runs a number of ticks.
+     *
+     * @param ticks The number of ticks to run.
+     */
+    public void tick(final int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    /**
+     * Runs ticks until no task is scheduled to run once, repeating tasks are run as often as they are due.
+     *
+     * @param maxTicks The maximum number of ticks to run.
+     */
+    public void drain(final int maxTicks) {
+        for (int i = 0; i < maxTicks && tasks.stream().anyMatch((task) -> task.period < 0); i++) {
+            tick();
+        }
+    }
+
+    /**
+     * Get the number of ticks run.
+     *
+     * @return The current tick.
+     */
+    public long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Get the number of scheduled tasks.
+     *
+     * @return The number of tasks.
+     */
+    public int pending() {
+        return tasks.size();
+    }
+
+    /**
+     * Cancels every scheduled task.
+     */
+    public void reset() {
+        tasks.forEach((task) -> task.cancelled = true);
+        tasks.clear();
+    }
+
+    private @NotNull Task schedule(final @NotNull Runnable runnable, final long delay, final long period) {
+        final ManualTask task = new ManualTask(runnable, currentTick + Math.max(1L, delay), period);
+        tasks.add(task);
+        return task;
+    }
+
+    @Override
+    public String toString() {
+        return "ManualTaskScheduler{" +
+                "currentTick=" + currentTick +
+                ", pending=" + tasks.size() +
+                '}';
+    }
+
+    /**
+     * A task scheduled on a {@link ManualTaskScheduler}.
+     */
+    private final class ManualTask implements Task {
+
+        /**
+         * The task.
+         */
+        private final Runnable runnable;
+
+        /**
+         * The ticks between runs, {@code -1} if the task runs once.
+         */
+        private final long period;
+
+        /**
+         * The tick this task next runs on.
+         */
+        private long nextRun;
+
+        /**
+         * If this task was canceled.
+         */
+        private boolean cancelled;
+
+        private ManualTask(final Runnable runnable, final long nextRun, final long period) {
+            this.runnable = runnable;
+            this.nextRun = nextRun;
+            this.period = period;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            tasks.remove(this);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.itsschatten.yggdrasil.scheduler;
+
+import com.itsschatten.yggdrasil.Utils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Access to the {@link YggdrasilScheduler} of the {@link Utils#getInstance() Yggdrasil instance}.
+ */
+public final class Schedulers {
+
+    /**
+     * If the server is running Folia, resolved once.
+     */
+    private static final boolean FOLIA = detectFolia();
+
+    /**
+     * A scheduler installed with {@link #set(YggdrasilScheduler)}, used instead of the instance's scheduler.
+     */
+    private static volatile YggdrasilScheduler override;
+
+    /**
+     * The scheduler created for the current instance.
+     */
+    private static volatile YggdrasilScheduler scheduler;
+
+    private Schedulers() {
+    }
+
+    /**
+     * Get the scheduler of the {@link Utils#getInstance() Yggdrasil instance}, created on first use.
+     *
+     * @return The {@link YggdrasilScheduler}.
+     * @throws IllegalStateException If no scheduler was {@link #set(YggdrasilScheduler) set} and the instance is {@code null}.
+     */
+    public static @NotNull YggdrasilScheduler get() {
+        final YggdrasilScheduler installed = override;
+        if (installed != null) return installed;
+
+        YggdrasilScheduler current = scheduler;
+        if (current == null) {
+            synchronized (Schedulers.class) {
+                current = scheduler;
+                if (current == null) {
+                    if (Utils.getInstance() == null) {
+                        throw new IllegalStateException("Cannot schedule tasks before the plugin instance is set! (Utils#setInstance)");
+                    }
+
+                    current = scheduler = YggdrasilScheduler.create(Utils.getInstance());
+                }
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * Installs a scheduler used instead of the instance's scheduler, for example a {@link ManualTaskScheduler} in tests.
+     *
+     * @param scheduler The scheduler, {@code null} to go back to the instance's scheduler.
+     */
+    public static void set(final @Nullable YggdrasilScheduler scheduler) {
+        override = scheduler;
+    }
+
+    /**
+     * Drops the scheduler created for the instance, called when the instance is changed or disabled.
+     */
+    public static void reset() {
+        scheduler = null;
+    }
+
+    /**
+     * Checks if the server is running Folia.
+     *
+     * @return {@code true} if Folia's regionized server is present.
+     */
+    public static boolean isFolia() {
+        return FOLIA;
+    }
+
+    private static boolean detectFolia() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (final ClassNotFoundException ex) {
+            return false;
+        }
+    }
+
+}
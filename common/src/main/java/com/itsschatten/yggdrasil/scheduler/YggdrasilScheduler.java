@@ -0,0 +1,198 @@
+package com.itsschatten.yggdrasil.scheduler;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Schedules tasks for a plugin, independent of the server's threading model.
+ * <p>
+ * Global tasks run on the main thread, or on the global region thread on Folia.
+ * Entity tasks run on the thread owning the entity, which is the main thread when not on Folia.
+ * Entity tasks are dropped if the entity is removed before they run.
+ *
+ * @see Schedulers#get()
+ */
+public interface YggdrasilScheduler {
+
+    /**
+     * Creates a scheduler for a plugin, using Folia's schedulers if the server is running Folia.
+     *
+     * @param plugin The plugin the tasks are scheduled for.
+     * @return A new {@link YggdrasilScheduler}.
+     */
+    static @NotNull YggdrasilScheduler create(final @NotNull Plugin plugin) {
+        return Schedulers.isFolia() ? new FoliaTaskScheduler(plugin) : new BukkitTaskScheduler(plugin);
+    }
+
+    /**
+     * Runs a task on the next tick.
+     *
+     * @param runnable The task.
+     * @return The scheduled {@link Task}.
+     */
+    @NotNull Task run(@NotNull Runnable runnable);
+
+    /**
+     * Runs a task after a delay.
+     *
+     * @param runnable The task.
+     * @param delay    The delay in ticks, values lower than {@code 1} are treated as {@code 1}.
+     * @return The scheduled {@link Task}.
+     */
+    @NotNull Task runLater(@NotNull Runnable runnable, long delay);
+
+    /**
+     * Runs a task repeatedly.
+     *
+     * @param runnable The task.
+     * @param delay    The delay before the first run in ticks, values lower than {@code 1} are treated as {@code 1}.
+     * @param period   The ticks between runs, values lower than {@code 1} are treated as {@code 1}.
+     * @return The scheduled {@link Task}.
+     */
+    @NotNull Task runTimer(@NotNull Runnable runnable, long delay, long period);
+
+    /**
+     * Runs a task off the server's tick threads.
+     *
+     * @param runnable The task.
+     * @return The scheduled {@link Task}.
+     */
+    @NotNull Task runAsync(@NotNull Runnable runnable);
+
+    /**
+     * Runs a task on the next tick of the thread owning an entity.
+     *
+     * @param entity   The entity.
+     * @param runnable The task.
+     * @return The scheduled {@link Task}, already canceled if the entity was removed.
+     */
+    default @NotNull Task run(final @NotNull Entity entity, final @NotNull Runnable runnable) {
+        return run(entity, runnable, null);
+    }
+
+    /**
+     * Runs a task on the next tick of the thread owning an entity.
+     * <p>
+     * If the entity is removed before the task runs, including when it was already removed, the retired callback is run instead.
+     *
+     * @param entity   The entity.
+     * @param runnable The task.
+     * @param retired  The callback run instead of the task if the entity is removed, {@code null} for none.
+     * @return The scheduled {@link Task}, already canceled if the entity was removed.
+     */
+    @NotNull Task run(@NotNull Entity entity, @NotNull Runnable runnable, @Nullable Runnable retired);
+
+    /**
+     * Runs a task on the thread owning an entity after a delay.
+     *
+     * @param entity   The entity.
+     * @param runnable The task.
+     * @param delay    The delay in ticks, values lower than {@code 1} are treated as {@code 1}.
+     * @return The scheduled {@link Task}, already canceled if the entity was removed.
+     */
+    @NotNull Task runLater(@NotNull Entity entity, @NotNull Runnable runnable, long delay);
+
+    /**
+     * Runs a task repeatedly on the thread owning an entity, until canceled or the entity is removed.
+     *
+     * @param entity   The entity.
+     * @param runnable The task.
+     * @param delay    The delay before the first run in ticks, values lower than {@code 1} are treated as {@code 1}.
+     * @param period   The ticks between runs, values lower than {@code 1} are treated as {@code 1}.
+     * @return The scheduled {@link Task}, already canceled if the entity was removed.
+     */
+    @NotNull Task runTimer(@NotNull Entity entity, @NotNull Runnable runnable, long delay, long period);
+
+    /**
+     * Checks if the current thread owns the entity, and may safely modify it or its inventories.
+     *
+     * @param entity The entity.
+     * @return {@code true} if the current thread owns the entity.
+     */
+    boolean isOwnedByCurrentThread(@NotNull Entity entity);
+
+    /**
+     * Checks if the current thread runs global tasks.
+     *
+     * @return {@code true} if the current thread is the main thread, or the global region thread on Folia.
+     */
+    boolean isGlobalThread();
+
+    /**
+     * Runs a task on the thread owning an entity, immediately if the current thread already owns it.
+     *
+     * @param entity   The entity.
+     * @param runnable The task.
+     */
+    default void execute(final @NotNull Entity entity, final @NotNull Runnable runnable) {
+        execute(entity, runnable, null);
+    }
+
+    /**
+     * Runs a task on the thread owning an entity, immediately if the current thread already owns it.
+     *
+     * @param entity   The entity.
+     * @param runnable The task.
+     * @param retired  The callback run instead of the task if the entity is removed, {@code null} for none.
+     * @see #run(Entity, Runnable, Runnable)
+     */
+    default void execute(final @NotNull Entity entity, final @NotNull Runnable runnable, final @Nullable Runnable retired) {
+        if (isOwnedByCurrentThread(entity)) {
+            runnable.run();
+        } else {
+            run(entity, runnable, retired);
+        }
+    }
+
+    /**
+     * Get an {@link Executor} running tasks as {@link #run(Runnable) global tasks}.
+     *
+     * @return The executor.
+     */
+    default @NotNull Executor executor() {
+        return this::run;
+    }
+
+    /**
+     * Get an {@link Executor} running tasks as {@link #run(Entity, Runnable) entity tasks}.
+     *
+     * @param entity The entity.
+     * @return The executor.
+     */
+    default @NotNull Executor executor(final @NotNull Entity entity) {
+        return (runnable) -> run(entity, runnable);
+    }
+
+    /**
+     * Get an {@link Executor} running tasks {@link #runAsync(Runnable) asynchronously}.
+     *
+     * @return The executor.
+     */
+    default @NotNull Executor asyncExecutor() {
+        return this::runAsync;
+    }
+
+    /**
+     * A task scheduled by a {@link YggdrasilScheduler}.
+     */
+    interface Task {
+
+        /**
+         * Cancels this task, a running task finishes its current run.
+         */
+        void cancel();
+
+        /**
+         * Checks if this task was canceled.
+         *
+         * @return {@code true} if this task was canceled.
+         */
+        boolean isCancelled();
+
+    }
+
+}
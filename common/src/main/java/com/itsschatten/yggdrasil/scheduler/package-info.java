@@ -0,0 +1,4 @@
+/**
+ * Scheduler abstraction over the Bukkit and Folia schedulers.
+ */
+package com.itsschatten.yggdrasil.scheduler;
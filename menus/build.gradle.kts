@@ -22,6 +22,7 @@ dependencies {
     compileOnly(project(":common"))
 
     compileOnly(libs.bundles.common)
+    compileOnly(libs.configurate)
     annotationProcessor(libs.lombok)
 }
 
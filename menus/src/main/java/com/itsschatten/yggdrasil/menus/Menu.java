@@ -4,17 +4,21 @@ import com.itsschatten.yggdrasil.Utils;
 import com.itsschatten.yggdrasil.menus.buttons.AnimatedButton;
 import com.itsschatten.yggdrasil.menus.buttons.Button;
 import com.itsschatten.yggdrasil.menus.buttons.DynamicButton;
+import com.itsschatten.yggdrasil.menus.buttons.interfaces.AlternativeDisplayItem;
 import com.itsschatten.yggdrasil.menus.types.PaginatedMenu;
 import com.itsschatten.yggdrasil.menus.types.interfaces.Animated;
 import com.itsschatten.yggdrasil.menus.types.interfaces.Ticking;
 import com.itsschatten.yggdrasil.menus.utils.*;
+import com.itsschatten.yggdrasil.scheduler.Schedulers;
+import com.itsschatten.yggdrasil.scheduler.YggdrasilScheduler;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
-import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -22,6 +26,8 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * The main menu class, you shouldn't extend this class,
@@ -39,12 +45,42 @@ public abstract class Menu<T extends MenuHolder> extends MenuInventory<T> {
      */
     private final List<Button<T>> buttons = new ArrayList<>();
 
+    /**
+     * A per-slot index of {@link #buttons}, used to resolve clicked buttons without comparing every registered button.
+     */
+    private final ButtonIndex<T> buttonIndex;
+
+    /**
+     * Should a clicked {@link ItemStack} also be compared against the resolved button's item?
+     * <p>
+     * Buttons are resolved by the clicked slot, enabling this additionally requires the clicked item to be similar to the button's item,
+     * which is only required if the menu allows items to be placed in slots that are occupied by buttons.
+     */
+    @Getter
+    @Setter
+    private boolean verifyButtonItems = false;
+
+    /**
+     * Resolvers asked in order to find the clicked button.
+     */
+    private final List<ButtonResolver<T>> resolvers = new ArrayList<>();
+
     /**
      * All tasks for this menu.
      */
     @Getter
     private final Set<ReschedulableTask> tasks = new HashSet<>();
 
+    /**
+     * The animation task of every registered {@link AnimatedButton}, by its button.
+     */
+    private final Map<Button<T>, ButtonTask> buttonTasks = new IdentityHashMap<>();
+
+    /**
+     * Dynamic buttons waiting to be written to the menu, by the first tick they may be written on.
+     */
+    private final Map<DynamicButton<T>, Long> queuedUpdates = new LinkedHashMap<>();
+
     /**
      * Utility to ensure a runnable has been run once.
      */
@@ -67,13 +103,24 @@ public abstract class Menu<T extends MenuHolder> extends MenuInventory<T> {
     @Accessors(fluent = true)
     private CloseReason closeReason = CloseReason.DEFAULT;
 
+    /**
+     * Buttons made by {@link #prepare(MenuHolder)}, registered instead of {@link #makeButtons()} on the first display.
+     */
+    private List<Button<T>> preparedButtons;
+
     /**
      * Default constructor.
      */
     @ApiStatus.Internal
     public Menu(int size, String title) {
         super(size, title);
-        this.register = new OneTimeRunnable(() -> registerButtons(makeButtons()));
+        this.buttonIndex = new ButtonIndex<>(size);
+        this.register = new OneTimeRunnable(() -> {
+            final List<Button<T>> prepared = this.preparedButtons;
+            this.preparedButtons = null;
+            registerButtons(prepared != null ? prepared : makeButtons());
+        });
+        registerResolver(this::getButton);
     }
 
     /**
@@ -130,15 +177,13 @@ public abstract class Menu<T extends MenuHolder> extends MenuInventory<T> {
         }
 
         buttons.add(button);
-        if (button instanceof final AnimatedButton<T> animatedButton) {
-            final ReschedulableTask task = new ReschedulableTask(animatedButton.getUpdateTime(), ReschedulableTask.Type.BUTTON) {
-                @Override
-                public void run() {
-                    animatedButton.run(Menu.this);
-                }
-            };
-
+        buttonIndex.add(button);
+        metrics().buttonRegistration();
+        // Buttons reconciled by a refresh are animated by the task of the button they replaced.
+        if (button instanceof final AnimatedButton<T> animatedButton && !buttonTasks.containsKey(button)) {
+            final ButtonTask task = new ButtonTask(animatedButton);
             registerTask(task);
+            buttonTasks.put(button, task);
         }
 
         return false;
@@ -158,26 +203,87 @@ public abstract class Menu<T extends MenuHolder> extends MenuInventory<T> {
      * Refresh the menu, re-registering declared buttons and redraws the menu.
      */
     public void refresh() {
-        // We cancel all running button tasks because after this point they will point to nothing and will cause
+        metrics().refresh();
+        replaceButtons(makeButtons());
+        redraw();
+    }
+
+    /**
+     * Replaces all registered buttons, without redrawing the menu.
+     * <p>
+     * Keyed animated buttons are reconciled against the registered buttons, see {@link Button#getKey()},
+     * a replacement matching a registered button takes over its animation task and continues its animation from the last drawn frame.
+     * The tasks of every other button are cancelled.
+     * Slots whose item didn't change aren't sent to the viewer again when the menu is redrawn.
+     *
+     * @param replacements The buttons to register.
+     */
+    private void replaceButtons(final @NotNull List<Button<T>> replacements) {
+        final Map<Object, Button<T>> keyed = new HashMap<>();
+        for (final Button<T> button : buttons) {
+            if (button.getKey() != null && buttonTasks.containsKey(button)) keyed.put(button.getKey(), button);
+        }
+
+        final List<Button<T>> next = new ArrayList<>(replacements.size());
+        final Set<ReschedulableTask> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final Button<T> replacement : replacements) {
+            final Button<T> current = replacement.getKey() == null || keyed.isEmpty() ? null : keyed.get(replacement.getKey());
+            if (current != null && canTakeOver(current, replacement)) {
+                keyed.remove(replacement.getKey());
+                final AnimatedButton<T> animated = (AnimatedButton<T>) replacement;
+                animated.continueFrom((AnimatedButton<?>) current);
+
+                final ButtonTask task = buttonTasks.remove(current);
+                task.button = animated;
+                buttonTasks.put(replacement, task);
+                kept.add(task);
+            }
+
+            next.add(replacement);
+        }
+
+        // We cancel every other button task because after this point they will point to nothing and will cause
         // unexpected behavior with buttons.
         tasks.forEach((task) -> {
-            if (task.getType() == ReschedulableTask.Type.BUTTON) {
+            if (task.getType() == ReschedulableTask.Type.BUTTON && !kept.contains(task)) {
                 task.cancel();
             }
         });
 
-        // We remove all button tasks here to prevent memory leaks.
-        tasks.removeIf((task) -> task.getType() == ReschedulableTask.Type.BUTTON);
+        // We remove the cancelled button tasks here to prevent memory leaks.
+        tasks.removeIf((task) -> task.getType() == ReschedulableTask.Type.BUTTON && !kept.contains(task));
+        buttonTasks.values().removeIf((task) -> !kept.contains(task));
         buttons.clear();
+        buttonIndex.clear();
+        // Queued buttons are replaced and would overwrite the redrawn menu.
+        queuedUpdates.clear();
 
-        registerButtons(makeButtons());
-        redraw();
+        registerButtons(next);
+    }
+
+    /**
+     * Checks if a replacement may take over the animation task of a registered keyed button with the same key.
+     *
+     * @param current     The registered button.
+     * @param replacement The replacement.
+     * @return {@code true} if both buttons are animated buttons of the same type, with the same positions, permission and update time.
+     */
+    private static boolean canTakeOver(final @NotNull Button<?> current, final @NotNull Button<?> replacement) {
+        if (current.getClass() != replacement.getClass()) return false;
+        if (!(current instanceof final AnimatedButton<?> animated)) return false;
+
+        return animated.getUpdateTime() == ((AnimatedButton<?>) replacement).getUpdateTime()
+                && Objects.equals(current.getPosition(), replacement.getPosition())
+                && Objects.equals(current.getPositions(), replacement.getPositions())
+                && Objects.equals(current.getPermission(), replacement.getPermission());
     }
 
     /**
      * Redraw the menu.
      */
     public final void redraw() {
+        metrics().redraw();
+        invalidatePermissions();
         formInventory();
     }
 
@@ -194,8 +300,11 @@ public abstract class Menu<T extends MenuHolder> extends MenuInventory<T> {
             });
             // Remove all button tasks to help relieve memory.
             tasks.removeIf((task) -> task.getType() == ReschedulableTask.Type.BUTTON);
+            this.buttonTasks.clear();
 
             this.buttons.clear();
+            this.buttonIndex.clear();
+            this.queuedUpdates.clear();
             makeButtons();
         }
     }
@@ -205,6 +314,7 @@ public abstract class Menu<T extends MenuHolder> extends MenuInventory<T> {
      */
     protected final void clearButtons() {
         this.buttons.clear();
+        this.buttonIndex.clear();
     }
 
     /**
@@ -240,7 +350,7 @@ public abstract class Menu<T extends MenuHolder> extends MenuInventory<T> {
     protected final void drawListOfButtons(final @NotNull List<Button<T>> toDraw) {
         for (final Button<T> button : toDraw) {
             if (button.getPermission() != null) {
-                if (holder().player().hasPermission(button.getPermission())) {
+                if (canView(button.getPermission())) {
                     if (button.getPositions() != null && !button.getPositions().isEmpty()) {
                         for (final InventoryPosition position : button.getPositions()) {
                             forceSet(position, button);
@@ -283,39 +393,174 @@ public abstract class Menu<T extends MenuHolder> extends MenuInventory<T> {
         // If the close reason was changed, it's likely that is a reopening of this menu.
         if (closeReason != CloseReason.DEFAULT) this.closeReason = CloseReason.DEFAULT;
         holder(user);
+        metrics().open();
+        // Displaying a menu supersedes any menu still being prepared for the user.
+        user.session().nextOpenToken();
 
-        if (!register.hasBeenRun()) {
-            if (this instanceof Ticking) {
-                TickingManager.add(this);
-            }
+        // Ticking menus are removed from the TickingManager when closed, so they are re-added on every display.
+        if (this instanceof Ticking) {
+            TickingManager.add(this);
+        }
 
+        if (!register.hasBeenRun()) {
             if (this instanceof final Animated animated) {
                 if (animated.getDelay() > -1) {
                     final ReschedulableTask task = new ReschedulableTask(animated.getDelay(), ReschedulableTask.Type.MENU) {
                         @Override
                         public void run() {
-                            animated.animate();
+                            executeForViewer(() -> {
+                                animated.animate();
+                                metrics().animationFrame();
+                            });
                         }
                     };
 
                     registerTask(task);
                 }
             }
-        } else {
-            if (!tasks.isEmpty()) {
-                Bukkit.getScheduler().runTask(Utils.getInstance(), () -> tasks.forEach(ReschedulableTask::restart));
-            }
         }
         register.attemptRun();
 
         Utils.debugLog("Display was called for " + getClass().getSimpleName() + ".");
+        invalidatePermissions();
         formInventory();
         onOpen(user);
         display(user);
         user.updateMenu(this);
+        // Resume any tasks paused when this menu was last closed, this must happen after displaying,
+        // re-displaying this menu closes its previous view which pauses its tasks.
+        tasks.forEach(ReschedulableTask::restart);
         postDisplay(user);
     }
 
+    /**
+     * Prepares this menu off the main thread on the {@link PreparedMenu#DEFAULT_EXECUTOR}.
+     *
+     * @param user The user to prepare the menu for.
+     * @return A future completing with the {@link PreparedMenu}, which must be {@link PreparedMenu#commit() committed} on the main thread.
+     * @see #prepare(MenuHolder, Executor)
+     */
+    public final @NotNull CompletableFuture<PreparedMenu<T>> prepare(final @NotNull T user) {
+        return prepare(user, PreparedMenu.DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Prepares this menu off the main thread, must be called on the main thread.
+     * <p>
+     * The executor calls {@link #load(MenuHolder)}, then {@link #makeButtons()}, and builds the item of every made button.
+     * Preparing supersedes any menu still being prepared for the user.
+     *
+     * @param user     The user to prepare the menu for.
+     * @param executor The executor to prepare the menu on.
+     * @return A future completing with the {@link PreparedMenu}, which must be {@link PreparedMenu#commit() committed} on the main thread.
+     */
+    public final @NotNull CompletableFuture<PreparedMenu<T>> prepare(final @NotNull T user, final @NotNull Executor executor) {
+        final long token = user.session().nextOpenToken();
+        final Inventory open = PreparedMenu.topInventory(user.player());
+
+        return CompletableFuture.supplyAsync(() -> {
+            load(user);
+
+            final List<Button<T>> made = makeButtons();
+            final List<Button<T>> prepared = made == null ? List.of() : made;
+            // Buttons cache their item, building it here leaves only copying the stacks for the main thread.
+            prepared.forEach(Button::getItem);
+
+            return new PreparedMenu<>(this, user, prepared, token, open);
+        }, executor);
+    }
+
+    /**
+     * Prepares this menu off the main thread and displays it once prepared, unless the user moved on in the meantime.
+     *
+     * @param user The user to display the menu to.
+     * @return A future completing with {@code true} if the menu was displayed, {@code false} if it was abandoned.
+     * @see #prepare(MenuHolder)
+     */
+    public final @NotNull CompletableFuture<Boolean> displayAsync(final @NotNull T user) {
+        final CompletableFuture<Boolean> displayed = new CompletableFuture<>();
+
+        prepare(user).whenComplete((prepared, throwable) -> {
+            if (throwable != null) {
+                Utils.logError(throwable);
+                displayed.completeExceptionally(throwable);
+                return;
+            }
+
+            final Runnable commit = () -> {
+                try {
+                    displayed.complete(prepared.commit());
+                } catch (final Exception ex) {
+                    Utils.logError(ex);
+                    displayed.completeExceptionally(ex);
+                }
+            };
+
+            final Player player = user.player();
+            if (player == null) {
+                Schedulers.get().run(commit);
+                return;
+            }
+
+            // The player left before the menu could be committed.
+            Schedulers.get().run(player, commit, () -> {
+                prepared.cancel();
+                displayed.complete(false);
+            });
+        });
+
+        return displayed;
+    }
+
+    /**
+     * Registers the buttons of a {@link PreparedMenu} and displays this menu, called by {@link PreparedMenu#commit()}.
+     *
+     * @param prepared The prepared menu.
+     */
+    @ApiStatus.Internal
+    public final void displayPrepared(final @NotNull PreparedMenu<T> prepared) {
+        if (register.hasBeenRun()) {
+            replaceButtons(prepared.buttons());
+        } else {
+            this.preparedButtons = prepared.buttons();
+        }
+
+        displayTo(prepared.holder());
+    }
+
+    /**
+     * Called off the main thread by {@link #prepare(MenuHolder)} before {@link #makeButtons()}, used to load any data the buttons need.
+     * <p>
+     * Must not touch the world or the inventory of the user.
+     *
+     * @param user The user the menu is being prepared for.
+     */
+    public void load(final T user) {
+    }
+
+    /**
+     * Get an {@link Executor} running tasks on the thread owning the {@link #holder()}'s player.
+     * <p>
+     * This is the main thread, unless the server is running Folia.
+     *
+     * @return The executor, running tasks as global tasks if there is no holder or player.
+     */
+    protected final @NotNull Executor viewerExecutor() {
+        return executorFor(holder());
+    }
+
+    /**
+     * Get an {@link Executor} running tasks on the thread owning a user's player.
+     *
+     * @param user The user, may be {@code null}.
+     * @return The executor, running tasks as global tasks if there is no user or player.
+     */
+    private @NotNull Executor executorFor(final @Nullable T user) {
+        final YggdrasilScheduler scheduler = Schedulers.get();
+        final Player player = user == null ? null : user.player();
+        return player == null ? scheduler.executor() : scheduler.executor(player);
+    }
+
     /**
      * Simply shows the completed menu to the player.
      * <p><b>Showing a menu in this way does not allow the user to click or interact with this menu.
@@ -354,9 +599,65 @@ public abstract class Menu<T extends MenuHolder> extends MenuInventory<T> {
 
     /**
      * Cancel all button and menu animation tasks.
+     * <p>
+     * Tasks are only paused and will be resumed the next time this menu is {@link #displayTo(MenuHolder) displayed}.
      */
     public final void cancelTasks() {
         tasks.forEach(ReschedulableTask::cancel);
+        queuedUpdates.clear();
+        ButtonUpdates.unmark(this);
+        cancelBackgroundWork();
+    }
+
+    /**
+     * Queues a {@link DynamicButton} to be written to this menu, the write happens in the once per tick drain of {@link ButtonUpdates}.
+     * <p>
+     * Queueing a button that is already queued does nothing, the button is written once with its latest stack.
+     * The button is written no sooner than {@link DynamicButton#getUpdateTime()} ticks after it was first queued.
+     *
+     * @param button The button to queue.
+     */
+    @ApiStatus.Internal
+    public final void queueUpdate(final @NotNull DynamicButton<T> button) {
+        if (queuedUpdates.putIfAbsent(button, TimingWheel.currentTick() + Math.max(0L, button.getUpdateTime())) == null) {
+            ButtonUpdates.mark(this);
+        }
+    }
+
+    /**
+     * Writes every queued {@link DynamicButton} that is due, called by {@link ButtonUpdates}.
+     *
+     * @param tick The current tick of the {@link TimingWheel}.
+     * @return {@code true} if buttons that aren't due yet are still queued.
+     */
+    @ApiStatus.Internal
+    public final boolean applyUpdates(final long tick) {
+        // The menu was closed or replaced since the buttons were queued.
+        if (holder() == null || holder().getCurrentMenu() != this) {
+            queuedUpdates.clear();
+            return false;
+        }
+
+        final Iterator<Map.Entry<DynamicButton<T>, Long>> iterator = queuedUpdates.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<DynamicButton<T>, Long> entry = iterator.next();
+            if (entry.getValue() > tick) continue;
+
+            iterator.remove();
+            try {
+                entry.getKey().applyUpdate(this);
+            } catch (final Exception ex) {
+                Utils.logError(ex);
+            }
+        }
+
+        return !queuedUpdates.isEmpty();
+    }
+
+    /**
+     * Cancels any work this menu is doing off the main thread, called when the menu is closed.
+     */
+    protected void cancelBackgroundWork() {
     }
 
     /**
@@ -418,45 +719,179 @@ public abstract class Menu<T extends MenuHolder> extends MenuInventory<T> {
     public abstract Button<T> getButton(final ItemStack stack, InventoryPosition position);
 
     /**
-     * Method to get the button from an {@link ItemStack}
+     * Registers a {@link ButtonResolver} used to find clicked buttons, resolvers are asked in registration order.
+     * <p>
+     * Every menu registers {@link #getButton(ItemStack, InventoryPosition)} first, menu types with their own buttons register their lookup after it.
+     *
+     * @param resolver The resolver to register.
+     */
+    protected final void registerResolver(final @NotNull ButtonResolver<T> resolver) {
+        resolvers.add(resolver);
+    }
+
+    /**
+     * Finds the clicked button by asking every registered {@link ButtonResolver}.
      *
-     * @param stack   The {@link ItemStack} to search for a button with.
-     * @param buttons The list of {@link Button} to search.
+     * @param stack    The clicked stack.
+     * @param position The clicked position.
+     * @return The first {@link Button} resolved, {@code null} if no resolver found a button.
+     */
+    @ApiStatus.Internal
+    public final @Nullable Button<T> resolveButton(final ItemStack stack, final @NotNull InventoryPosition position) {
+        for (final ButtonResolver<T> resolver : resolvers) {
+            final Button<T> button = resolver.resolve(stack, position);
+            if (button != null) return button;
+        }
+
+        return null;
+    }
+
+    /**
+     * Resolves a button from this menu's registered buttons.
+     *
+     * @param stack    The clicked {@link ItemStack}.
+     * @param position The position clicked.
      * @return Returns the found {@link Button} or {@code null} if not found.
+     * @see #getButtonImpl(ItemStack, InventoryPosition, ButtonIndex)
      */
     @ApiStatus.Internal
-    protected final @Nullable Button<T> getButtonImpl(final ItemStack stack, final InventoryPosition position, final @NotNull List<Button<T>> buttons) {
-        for (final Button<T> registeredButton : buttons) {
-            // Because Animated and Dynamic are switched in runtime, it's easier if we simply defer to known item type
-            // so we don't have to constantly check the item over and over again.
-            final ItemStack item = switch (registeredButton) {
-                case AnimatedButton<T> animated -> animated.getInnerStack().ensureServerConversions();
-                case DynamicButton<T> dynamicButton -> dynamicButton.getInnerStack().ensureServerConversions();
-                default -> {
-                    final ItemStack instance = registeredButton.getItem();
-                    yield instance == null ? null : instance.ensureServerConversions();
-                }
-            };
+    protected final @Nullable Button<T> getButtonImpl(final ItemStack stack, final InventoryPosition position) {
+        return getButtonImpl(stack, position, buttonIndex);
+    }
 
-            // If a registered button has a null item return.
-            if (item == null) continue;
+    /**
+     * Method to resolve a button by the clicked slot.
+     * <p>
+     * The index is looked up by the clicked position, if more than one button is registered to a slot the last registered
+     * (the one drawn on top) that the holder has permission for is returned.
+     * The clicked item is only compared to the button's item if {@link #isVerifyButtonItems()} is enabled.
+     *
+     * @param stack    The clicked {@link ItemStack}.
+     * @param position The position clicked.
+     * @param index    The {@link ButtonIndex} to search.
+     * @return Returns the found {@link Button} or {@code null} if not found.
+     */
+    @ApiStatus.Internal
+    protected final @Nullable Button<T> getButtonImpl(final ItemStack stack, final InventoryPosition position, final @NotNull ButtonIndex<T> index) {
+        // An empty slot never holds a button.
+        if (stack == null || stack.getType().isAir() || position == null) return null;
 
-            // Ensuring all conversions have taken place on the item,
-            // we check if it is similar to the provided stack or exactly equal to it.
-            if ((item.isSimilar(stack) || item.equals(stack)) && position.equals(registeredButton.getPosition())) {
-                if (registeredButton.getPermission() != null) {
-                    // We do have permissions, check if the main holder of the menu has permission to click the button.
-                    if (!holder().hasPermission(registeredButton.getPermission()))
-                        return null;
-                }
+        final List<Button<T>> candidates = index.get(position);
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            final Button<T> registeredButton = candidates.get(i);
 
-                return registeredButton;
+            if (registeredButton.getPermission() != null) {
+                // We do have permissions, check if the main holder of the menu has permission to click the button.
+                if (!holder().hasPermission(registeredButton.getPermission())) continue;
             }
+
+            if (verifyButtonItems && !isButtonItem(registeredButton, stack)) continue;
+
+            return registeredButton;
         }
 
         return null;
     }
 
+    /**
+     * Get the slots of an index taken by a button the holder may view.
+     * <p>
+     * Only the index's {@link ButtonIndex#occupied() occupied} slots are visited.
+     *
+     * @param index The {@link ButtonIndex} to search.
+     * @return A {@link SlotMask} of the slots.
+     */
+    @ApiStatus.Internal
+    protected final @NotNull SlotMask viewableButtonSlots(final @NotNull ButtonIndex<T> index) {
+        long pending = index.occupied().bits();
+        long bits = 0L;
+        while (pending != 0L) {
+            final int slot = Long.numberOfTrailingZeros(pending);
+            pending &= pending - 1;
+
+            for (final Button<T> button : index.get(slot)) {
+                if (canView(button.getPermission())) {
+                    bits |= 1L << slot;
+                    break;
+                }
+            }
+        }
+
+        return new SlotMask(bits);
+    }
+
+    /**
+     * Get the slots of the registered buttons taken by a button the holder may view.
+     *
+     * @return A {@link SlotMask} of the slots.
+     * @see #viewableButtonSlots(ButtonIndex)
+     */
+    @ApiStatus.Internal
+    protected final @NotNull SlotMask viewableButtonSlots() {
+        return viewableButtonSlots(buttonIndex);
+    }
+
+    /**
+     * Checks if a button the holder may view is registered to a position.
+     *
+     * @param position The position.
+     * @return {@code true} if a viewable button is registered to the position.
+     * @see #hasViewableButton(InventoryPosition, ButtonIndex)
+     */
+    @ApiStatus.Internal
+    protected final boolean hasViewableButton(final @NotNull InventoryPosition position) {
+        return hasViewableButton(position, buttonIndex);
+    }
+
+    /**
+     * Checks if a button the holder may view is registered to a position of an index.
+     * <p>
+     * Slots without buttons are rejected by a single bit test on the index's {@link ButtonIndex#occupied() occupancy}.
+     *
+     * @param position The position.
+     * @param index    The {@link ButtonIndex} to search.
+     * @return {@code true} if a viewable button is registered to the position.
+     */
+    @ApiStatus.Internal
+    protected final boolean hasViewableButton(final @NotNull InventoryPosition position, final @NotNull ButtonIndex<T> index) {
+        final int slot = position.getEffectiveSlot();
+        if (!index.isOccupied(slot)) return false;
+
+        for (final Button<T> button : index.get(slot)) {
+            if (canView(button.getPermission())) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if the provided {@link ItemStack} is similar to the item of a {@link Button}.
+     *
+     * @param button The button to check.
+     * @param stack  The {@link ItemStack} to compare.
+     * @return {@code true} if the button's item is similar to the stack.
+     */
+    private boolean isButtonItem(final @NotNull Button<T> button, final @NotNull ItemStack stack) {
+        // Because Animated and Dynamic are switched in runtime, it's easier if we simply defer to known item type
+        // so we don't have to constantly check the item over and over again.
+        final ItemStack item = switch (button) {
+            case AnimatedButton<T> animated -> animated.getInnerStack().ensureServerConversions();
+            case DynamicButton<T> dynamicButton -> dynamicButton.getInnerStack().ensureServerConversions();
+            case AlternativeDisplayItem alternative -> {
+                final ItemStack display = alternative.displayItem();
+                yield display == null ? null : display.ensureServerConversions();
+            }
+            default -> {
+                final ItemStack instance = button.getItem();
+                yield instance == null ? null : instance.ensureServerConversions();
+            }
+        };
+
+        // Ensuring all conversions have taken place on the item,
+        // we check if it is similar to the provided stack or exactly equal to it.
+        return item != null && (item.isSimilar(stack) || item.equals(stack));
+    }
+
     /**
      * Called when clicking on the inventory.
      *
@@ -468,4 +903,30 @@ public abstract class Menu<T extends MenuHolder> extends MenuInventory<T> {
     public void onClick(final T holder, final InventoryPosition slot, final ClickType click, final ItemStack clicked) {
     }
 
+    /**
+     * The animation task of an {@link AnimatedButton}, handed over to the button replacing it on a refresh.
+     */
+    private final class ButtonTask extends ReschedulableTask {
+
+        /**
+         * The button animated by this task.
+         */
+        private AnimatedButton<T> button;
+
+        private ButtonTask(final @NotNull AnimatedButton<T> button) {
+            super(button.getUpdateTime(), ReschedulableTask.Type.BUTTON);
+            this.button = button;
+        }
+
+        @Override
+        public void run() {
+            // The wheel runs on the global thread, the frame is drawn on the thread owning the viewer.
+            executeForViewer(() -> {
+                button.run(Menu.this);
+                metrics().animationFrame();
+            });
+        }
+
+    }
+
 }
@@ -1,9 +1,12 @@
 package com.itsschatten.yggdrasil.menus;
 
 import com.itsschatten.yggdrasil.Utils;
+import com.itsschatten.yggdrasil.menus.layout.MenuLayouts;
 import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
 import com.itsschatten.yggdrasil.menus.utils.MenuListeners;
+import com.itsschatten.yggdrasil.menus.utils.MenuSessions;
 import com.itsschatten.yggdrasil.menus.utils.TickingManager;
+import com.itsschatten.yggdrasil.menus.utils.TimingWheel;
 import lombok.experimental.UtilityClass;
 import net.kyori.adventure.audience.Audience;
 import org.bukkit.entity.Player;
@@ -35,13 +38,17 @@ public class MenuUtils {
 
 
         TickingManager.beginTicking();
+        TimingWheel.start();
     }
 
     /**
-     * Shutdowns the {@link TickingManager}.
+     * Shutdowns the {@link TickingManager} and the {@link TimingWheel}, clears all {@link MenuSessions}, and stops watching {@link MenuLayouts}.
      */
     public void shutdown() {
         TickingManager.cancelAll();
+        TimingWheel.stop();
+        MenuSessions.clear();
+        MenuLayouts.close();
     }
 
     /**
@@ -5,8 +5,10 @@ import com.itsschatten.yggdrasil.menus.Menu;
 import com.itsschatten.yggdrasil.menus.buttons.interfaces.AlternativeDisplayItem;
 import com.itsschatten.yggdrasil.menus.utils.InventoryPosition;
 import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
+import lombok.AccessLevel;
 import lombok.Setter;
 import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -26,6 +28,12 @@ public abstract class AnimatedButton<T extends MenuHolder> extends Button<T> imp
      */
     private ItemStack innerStack;
 
+    /**
+     * If this button has drawn at least one frame through {@link #run(Menu)}.
+     */
+    @Setter(AccessLevel.NONE)
+    private boolean animated;
+
     /**
      * Gets the inner {@link ItemStack}.
      *
@@ -59,13 +67,47 @@ public abstract class AnimatedButton<T extends MenuHolder> extends Button<T> imp
         return animate().make();
     }
 
+    /**
+     * The stack drawn when the menu draws this button.
+     * <p>
+     * Once this button has animated, redrawing the menu draws the last frame again instead of animating,
+     * so a button kept by a refresh doesn't change until its next frame.
+     *
+     * @return Returns the last frame, or {@link #animation()} if this button hasn't animated yet.
+     */
+    protected @NotNull ItemStack currentFrame() {
+        return animated && innerStack != null ? innerStack : animation();
+    }
+
+    /**
+     * Continues the animation of the button this button replaced on a refresh,
+     * so the last frame drawn by it is drawn until this button animates.
+     *
+     * @param previous The replaced button, of the same type as this button.
+     */
+    @ApiStatus.Internal
+    public void continueFrom(final @NotNull AnimatedButton<?> previous) {
+        this.innerStack = previous.innerStack;
+        this.animated = previous.animated;
+    }
+
+    /**
+     * The stack drawn by the next run of the animation task.
+     *
+     * @return Returns {@link #animation()} by default.
+     * @see CyclingButton
+     */
+    protected @NotNull ItemStack nextFrame() {
+        return animation();
+    }
+
     /**
      * {@inheritDoc}
      *
-     * @return Returns {@link #animation()}
+     * @return Returns {@link #currentFrame()}
      */
     public final @NotNull ItemStack displayItem() {
-        return animation();
+        return currentFrame();
     }
 
     /**
@@ -74,7 +116,8 @@ public abstract class AnimatedButton<T extends MenuHolder> extends Button<T> imp
      * @param menu The menu to run for.
      */
     public final void run(final @NotNull Menu menu) {
-        setInnerStack(animation());
+        setInnerStack(nextFrame());
+        animated = true;
 
         if (getPositions() != null && !getPositions().isEmpty()) {
             for (final InventoryPosition position : getPositions()) {
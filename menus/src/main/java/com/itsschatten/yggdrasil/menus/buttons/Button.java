@@ -1,6 +1,7 @@
 package com.itsschatten.yggdrasil.menus.buttons;
 
 import com.itsschatten.yggdrasil.items.ItemCreator;
+import com.itsschatten.yggdrasil.items.ItemPool;
 import com.itsschatten.yggdrasil.menus.Menu;
 import com.itsschatten.yggdrasil.menus.utils.InventoryPosition;
 import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
@@ -31,13 +32,17 @@ public abstract class Button<T extends MenuHolder> {
 
     /**
      * Gets the created item.
+     * <p>
+     * The item is shared through the {@link ItemPool} with every button that creates an identical item, and must not be mutated.
      *
      * @return An {@link ItemStack} generated from {@link #createItem()}
      */
     public final @Nullable ItemStack getItem() {
-        if (createItem() == null) return null;
         if (this.instanceStack == null) {
-            this.instanceStack = createItem().make();
+            final ItemCreator creator = createItem();
+            if (creator == null) return null;
+
+            this.instanceStack = ItemPool.intern(creator);
         }
 
         return instanceStack;
@@ -82,6 +87,20 @@ public abstract class Button<T extends MenuHolder> {
         return null;
     }
 
+    /**
+     * The key identifying this button across {@link Menu#refresh() refreshes}.
+     * <p>
+     * When a menu is refreshed, a registered {@link AnimatedButton} is kept, along with its animation task and state,
+     * if the new buttons contain a button with the same key, type, positions, permission and update time.
+     * Change the key to force the button to be replaced.
+     *
+     * @return The key, {@code null} if this button is always replaced on refresh.
+     */
+    @Nullable
+    public Object getKey() {
+        return null;
+    }
+
     @Override
     public String toString() {
         return "Button{item=" + getItem() + ", positions=" + (getPositions() == null ? getPosition().toString() : getPositions()) + "}";
@@ -64,6 +64,15 @@ public final class Buttons {
         return CommandButtonImpl.builder();
     }
 
+    /**
+     * A {@link CyclingButton} builder.
+     *
+     * @return Returns a new {@link CyclingButtonImpl} builder via {@link CyclingButtonImpl#builder()}.
+     */
+    public static <T extends MenuHolder> CyclingButtonImpl.Builder<T> cycling() {
+        return CyclingButtonImpl.builder();
+    }
+
     /**
      * A {@link DynamicButton} builder.
      *
@@ -82,6 +91,15 @@ public final class Buttons {
         return SimpleButtonImpl.builder();
     }
 
+    /**
+     * A {@link SyncedButton} builder.
+     *
+     * @return Returns a new {@link SyncedButtonImpl} builder via {@link SyncedButtonImpl#builder()}.
+     */
+    public static <T extends MenuHolder> SyncedButtonImpl.Builder<T> synced() {
+        return SyncedButtonImpl.builder();
+    }
+
     /**
      * A {@link MenuTriggerButton} builder.
      *
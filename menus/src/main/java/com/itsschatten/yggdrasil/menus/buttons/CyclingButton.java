@@ -0,0 +1,84 @@
+package com.itsschatten.yggdrasil.menus.buttons;
+
+import com.itsschatten.yggdrasil.items.ItemCreator;
+import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An {@link AnimatedButton} cycling through a fixed {@link FrameCycle}.
+ * <p>
+ * Every run of the animation only advances the frame index and draws the already built frame,
+ * nothing is built or parsed while the button animates.
+ */
+public abstract class CyclingButton<T extends MenuHolder> extends AnimatedButton<T> {
+
+    /**
+     * The index of the frame currently drawn.
+     */
+    private int index;
+
+    /**
+     * The frames this button cycles through.
+     *
+     * @return The {@link FrameCycle}.
+     */
+    public abstract @NotNull FrameCycle getFrames();
+
+    /**
+     * Get the index of the frame currently drawn.
+     *
+     * @return The index, between {@code 0} and the number of frames.
+     */
+    public final int getFrameIndex() {
+        return index;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The creator of the first frame.
+     */
+    @Override
+    public ItemCreator createItem() {
+        return getFrames().creator(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The creator of the current frame.
+     */
+    @Override
+    public ItemCreator animate() {
+        return getFrames().creator(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The frame index is carried over as well, wrapped to the frames of this button.
+     */
+    @Override
+    @ApiStatus.Internal
+    public void continueFrom(final @NotNull AnimatedButton<?> previous) {
+        super.continueFrom(previous);
+        if (previous instanceof final CyclingButton<?> cycling) {
+            index = cycling.index % getFrames().size();
+        }
+    }
+
+    @Override
+    protected final @NotNull ItemStack currentFrame() {
+        return getFrames().frame(index);
+    }
+
+    @Override
+    protected final @NotNull ItemStack nextFrame() {
+        final FrameCycle frames = getFrames();
+        index = (index + 1) % frames.size();
+        return frames.frame(index);
+    }
+
+}
@@ -1,15 +1,14 @@
 package com.itsschatten.yggdrasil.menus.buttons;
 
 import com.itsschatten.yggdrasil.TimeUtils;
-import com.itsschatten.yggdrasil.Utils;
 import com.itsschatten.yggdrasil.items.ItemCreator;
 import com.itsschatten.yggdrasil.menus.Menu;
 import com.itsschatten.yggdrasil.menus.buttons.interfaces.AlternativeDisplayItem;
 import com.itsschatten.yggdrasil.menus.utils.InventoryPosition;
 import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
 import lombok.Setter;
-import org.bukkit.Bukkit;
 import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -61,11 +60,11 @@ public abstract class DynamicButton<T extends MenuHolder> extends Button<T> impl
     }
 
     /**
-     * The delay we should wait before attempting to update the button.
+     * The minimum delay we should wait before updating the button after it was clicked.
      * <p>
-     * This uses Minecraft ticks.
+     * This uses Minecraft ticks, clicks within the delay are coalesced into a single update.
      *
-     * @return Default <code>5L</code>.
+     * @return Default <code>0L</code>, the button is updated on the next tick.
      * @see TimeUtils.MinecraftTimeUnits
      */
     public long getUpdateTime() {
@@ -73,26 +72,38 @@ public abstract class DynamicButton<T extends MenuHolder> extends Button<T> impl
     }
 
     /**
-     * Updates the inner {@link ItemStack}.
+     * Queues an update of the inner {@link ItemStack}.
+     * <p>
+     * The stack is rebuilt and written once the update is drained, multiple updates queued before then are coalesced.
      *
      * @param holder The holder of the menu.
      * @param menu   The menu that we should update.
+     * @see Menu#queueUpdate(DynamicButton)
      */
     public final void updateInner(final @NotNull T holder, final Menu<T> menu) {
         if (holder.getCurrentMenu() == menu) {
-            if (updateStack() != null) {
-                setInnerStack(updateStack().make());
-            }
+            menu.queueUpdate(this);
+        }
+    }
+
+    /**
+     * Rebuilds the inner {@link ItemStack} and writes it to every position of this button.
+     *
+     * @param menu The menu to write to.
+     */
+    @ApiStatus.Internal
+    public final void applyUpdate(final @NotNull Menu<T> menu) {
+        final ItemCreator creator = updateStack();
+        if (creator != null) {
+            setInnerStack(creator.make());
+        }
 
-            Bukkit.getScheduler().runTaskLater(Utils.getInstance(), () -> {
-                if (getPositions() != null && !getPositions().isEmpty()) {
-                    for (final InventoryPosition position : getPositions()) {
-                        menu.forceSet(position, getInnerStack());
-                    }
-                } else {
-                    menu.forceSet(getPosition(), getInnerStack());
-                }
-            }, getUpdateTime());
+        if (getPositions() != null && !getPositions().isEmpty()) {
+            for (final InventoryPosition position : getPositions()) {
+                menu.forceSet(position, getInnerStack());
+            }
+        } else {
+            menu.forceSet(getPosition(), getInnerStack());
         }
     }
 }
@@ -0,0 +1,134 @@
+package com.itsschatten.yggdrasil.menus.buttons;
+
+import com.itsschatten.yggdrasil.items.ItemCreator;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * A fixed cycle of animation frames, every frame is built once when the cycle is created.
+ * <p>
+ * A cycle is immutable and may be shared by every button, and every menu, showing the same animation.
+ * <b>The built stacks are shared and must not be mutated.</b>
+ *
+ * @see CyclingButton
+ */
+public final class FrameCycle {
+
+    /**
+     * The creators of every frame.
+     */
+    private final List<ItemCreator> creators;
+
+    /**
+     * The built frames.
+     */
+    private final ItemStack[] frames;
+
+    private FrameCycle(final @NotNull List<ItemCreator> creators) {
+        if (creators.isEmpty()) {
+            throw new IllegalArgumentException("A frame cycle must have at least one frame.");
+        }
+
+        this.creators = List.copyOf(creators);
+        this.frames = new ItemStack[this.creators.size()];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = this.creators.get(i).make();
+        }
+    }
+
+    /**
+     * Get a cycle of the provided frames.
+     *
+     * @param frames The frames, in order.
+     * @return A new {@link FrameCycle}.
+     * @throws IllegalArgumentException If no frames are provided.
+     */
+    @Contract("_ -> new")
+    public static @NotNull FrameCycle of(final ItemCreator @NotNull ... frames) {
+        return new FrameCycle(List.of(frames));
+    }
+
+    /**
+     * Get a cycle of the provided frames.
+     *
+     * @param frames The frames, in order.
+     * @return A new {@link FrameCycle}.
+     * @throws IllegalArgumentException If no frames are provided.
+     */
+    @Contract("_ -> new")
+    public static @NotNull FrameCycle of(final @NotNull List<ItemCreator> frames) {
+        return new FrameCycle(frames);
+    }
+
+    /**
+     * Get a cycle generating every frame of a period, the generator is only called while the cycle is created.
+     *
+     * @param period    The number of frames before the animation repeats.
+     * @param generator The generator, given the index of the frame.
+     * @return A new {@link FrameCycle}.
+     * @throws IllegalArgumentException If the period isn't positive.
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull FrameCycle generate(final int period, final @NotNull IntFunction<ItemCreator> generator) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("The period of a frame cycle must be positive, found " + period + ".");
+        }
+
+        final List<ItemCreator> creators = new ArrayList<>(period);
+        for (int i = 0; i < period; i++) {
+            creators.add(Objects.requireNonNull(generator.apply(i), "Frame " + i + " of a frame cycle cannot be null."));
+        }
+        return new FrameCycle(creators);
+    }
+
+    /**
+     * Get the number of frames in this cycle.
+     *
+     * @return The number of frames.
+     */
+    public int size() {
+        return frames.length;
+    }
+
+    /**
+     * Get a built frame, the index wraps around the cycle.
+     *
+     * @param index The index of the frame.
+     * @return The shared {@link ItemStack} of the frame.
+     */
+    public @NotNull ItemStack frame(final int index) {
+        return frames[Math.floorMod(index, frames.length)];
+    }
+
+    /**
+     * Get the creator of a frame, the index wraps around the cycle.
+     *
+     * @param index The index of the frame.
+     * @return The {@link ItemCreator} of the frame.
+     */
+    public @NotNull ItemCreator creator(final int index) {
+        return creators.get(Math.floorMod(index, frames.length));
+    }
+
+    /**
+     * Get the creators of every frame.
+     *
+     * @return An unmodifiable list of the creators, in order.
+     */
+    public @NotNull @Unmodifiable List<ItemCreator> creators() {
+        return creators;
+    }
+
+    @Override
+    public String toString() {
+        return "FrameCycle{frames=" + frames.length + "}";
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.itsschatten.yggdrasil.menus.buttons;
+
+import com.itsschatten.yggdrasil.items.ItemCreator;
+import com.itsschatten.yggdrasil.menus.utils.AnimationClock;
+import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An {@link AnimatedButton} showing a shared {@link AnimationClock.Animation}.
+ * <p>
+ * Every synced button showing the same animation, in every menu, draws the same frame at the same time,
+ * and the frame is only computed once for all of them.
+ */
+public abstract class SyncedButton<T extends MenuHolder> extends AnimatedButton<T> {
+
+    /**
+     * The animation this button shows.
+     *
+     * @return The shared {@link AnimationClock.Animation}.
+     */
+    public abstract @NotNull AnimationClock.Animation getAnimation();
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The creator of the current frame.
+     */
+    @Override
+    public ItemCreator createItem() {
+        return getAnimation().creator();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The creator of the current frame.
+     */
+    @Override
+    public ItemCreator animate() {
+        return getAnimation().creator();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The period of the animation.
+     */
+    @Override
+    public final long getUpdateTime() {
+        return getAnimation().period();
+    }
+
+    @Override
+    protected final @NotNull ItemStack currentFrame() {
+        return getAnimation().stack();
+    }
+
+    @Override
+    protected final @NotNull ItemStack nextFrame() {
+        return getAnimation().stack();
+    }
+
+}
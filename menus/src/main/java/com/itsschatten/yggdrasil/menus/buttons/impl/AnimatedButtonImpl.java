@@ -57,6 +57,11 @@ public class AnimatedButtonImpl<T extends MenuHolder> extends AnimatedButton<T>
      */
     final @Nullable MenuRunnable<T> onClick;
 
+    /**
+     * The key identifying this button across refreshes.
+     */
+    final @Nullable Object key;
+
     /**
      * Constructs a new AnimatedButton.
      *
@@ -67,12 +72,14 @@ public class AnimatedButtonImpl<T extends MenuHolder> extends AnimatedButton<T>
      * @param animate    The animation for the button.
      * @param updateTime The time, in ticks, to wait between animation frames.
      * @param onClick    The runnable to run when the holder clicks on the button.
+     * @param key        The key identifying this button across refreshes.
      */
     public AnimatedButtonImpl(@NotNull InventoryPosition position, @Nullable Collection<InventoryPosition> positions,
                               @Nullable String permission,
                               @NotNull Supplier<ItemCreator.ItemCreatorBuilder> item,
                               @Nullable Supplier<ItemCreator.ItemCreatorBuilder> animate,
-                              int updateTime, @Nullable MenuRunnable<T> onClick) {
+                              int updateTime, @Nullable MenuRunnable<T> onClick,
+                              @Nullable Object key) {
         this.position = position;
         this.positions = positions;
         this.permission = permission;
@@ -80,6 +87,7 @@ public class AnimatedButtonImpl<T extends MenuHolder> extends AnimatedButton<T>
         this.animate = animate;
         this.updateTime = updateTime;
         this.onClick = onClick;
+        this.key = key;
     }
 
     @Override
@@ -97,6 +105,11 @@ public class AnimatedButtonImpl<T extends MenuHolder> extends AnimatedButton<T>
         return this.updateTime < 0 ? super.getUpdateTime() : this.updateTime;
     }
 
+    @Override
+    public @Nullable Object getKey() {
+        return this.key;
+    }
+
     @Override
     public @Nullable String getPermission() {
         return this.permission == null || this.permission.isBlank() ? null : this.permission;
@@ -29,11 +29,14 @@ public class AnimatedCommandButtonImpl<T extends MenuHolder> extends AnimatedCom
     final boolean console;
     final boolean closeAfter;
 
+    final @Nullable Object key;
+
     public AnimatedCommandButtonImpl(@NotNull InventoryPosition position, @Nullable Collection<InventoryPosition> positions,
                                      @Nullable String permission,
                                      @NotNull Supplier<ItemCreator.ItemCreatorBuilder> item,
                                      @Nullable Supplier<ItemCreator.ItemCreatorBuilder> animate,
-                                     int updateTime, @NotNull String command, boolean console, boolean closeAfter) {
+                                     int updateTime, @NotNull String command, boolean console, boolean closeAfter,
+                                     @Nullable Object key) {
         this.position = position;
         this.positions = positions;
         this.permission = permission;
@@ -43,6 +46,7 @@ public class AnimatedCommandButtonImpl<T extends MenuHolder> extends AnimatedCom
         this.command = command;
         this.console = console;
         this.closeAfter = closeAfter;
+        this.key = key;
     }
 
     @Override
@@ -75,6 +79,11 @@ public class AnimatedCommandButtonImpl<T extends MenuHolder> extends AnimatedCom
         return this.updateTime < 0 ? super.getUpdateTime() : this.updateTime;
     }
 
+    @Override
+    public @Nullable Object getKey() {
+        return this.key;
+    }
+
     @Override
     public @Nullable String getPermission() {
         return this.permission == null || this.permission.isBlank() ? null : this.permission;
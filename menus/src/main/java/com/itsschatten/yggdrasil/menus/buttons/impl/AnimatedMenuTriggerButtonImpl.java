@@ -29,11 +29,14 @@ public class AnimatedMenuTriggerButtonImpl<T extends MenuHolder> extends Animate
 
     final @NotNull BiFunction<T, ClickType, Menu<T>> menu;
 
+    final @Nullable Object key;
+
     public AnimatedMenuTriggerButtonImpl(@NotNull InventoryPosition position, @Nullable Collection<InventoryPosition> positions,
                                          @Nullable String permission,
                                          @NotNull Supplier<ItemCreator.ItemCreatorBuilder> item,
                                          @Nullable Supplier<ItemCreator.ItemCreatorBuilder> animate,
-                                         int updateTime, @NotNull BiFunction<T, ClickType, Menu<T>> menu) {
+                                         int updateTime, @NotNull BiFunction<T, ClickType, Menu<T>> menu,
+                                         @Nullable Object key) {
         this.position = position;
         this.positions = positions;
         this.permission = permission;
@@ -41,6 +44,7 @@ public class AnimatedMenuTriggerButtonImpl<T extends MenuHolder> extends Animate
         this.animate = animate;
         this.updateTime = updateTime;
         this.menu = menu;
+        this.key = key;
     }
 
     @Override
@@ -58,6 +62,11 @@ public class AnimatedMenuTriggerButtonImpl<T extends MenuHolder> extends Animate
         return this.updateTime < 0 ? super.getUpdateTime() : this.updateTime;
     }
 
+    @Override
+    public @Nullable Object getKey() {
+        return this.key;
+    }
+
     @Override
     public @Nullable String getPermission() {
         return this.permission == null || this.permission.isBlank() ? null : this.permission;
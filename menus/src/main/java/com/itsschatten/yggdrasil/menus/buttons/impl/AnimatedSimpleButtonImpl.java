@@ -24,17 +24,21 @@ public class AnimatedSimpleButtonImpl<T extends MenuHolder> extends AnimatedSimp
 
     final int updateTime;
 
+    final @Nullable Object key;
+
     public AnimatedSimpleButtonImpl(@NotNull InventoryPosition position, @Nullable Collection<InventoryPosition> positions,
                                     @Nullable String permission,
                                     @NotNull Supplier<ItemCreator.ItemCreatorBuilder> item,
                                     @Nullable Supplier<ItemCreator.ItemCreatorBuilder> animate,
-                                    int updateTime) {
+                                    int updateTime,
+                                    @Nullable Object key) {
         this.position = position;
         this.positions = positions;
         this.permission = permission;
         this.item = item;
         this.animate = animate;
         this.updateTime = updateTime;
+        this.key = key;
     }
 
     @Override
@@ -52,6 +56,11 @@ public class AnimatedSimpleButtonImpl<T extends MenuHolder> extends AnimatedSimp
         return this.updateTime < 0 ? super.getUpdateTime() : updateTime;
     }
 
+    @Override
+    public @Nullable Object getKey() {
+        return this.key;
+    }
+
     @Override
     public @Nullable String getPermission() {
         return this.permission == null || this.permission.isBlank() ? null : this.permission;
@@ -0,0 +1,137 @@
+package com.itsschatten.yggdrasil.menus.buttons.impl;
+
+import com.itsschatten.yggdrasil.menus.Menu;
+import com.itsschatten.yggdrasil.menus.buttons.SyncedButton;
+import com.itsschatten.yggdrasil.menus.utils.AnimationClock;
+import com.itsschatten.yggdrasil.menus.utils.InventoryPosition;
+import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
+import com.itsschatten.yggdrasil.menus.utils.MenuRunnable;
+import lombok.Builder;
+import org.bukkit.event.inventory.ClickType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * A synced button, it shows a shared animation in step with every other menu.
+ *
+ * @param <T> The menu holder type.
+ */
+@Builder(builderClassName = "Builder")
+public class SyncedButtonImpl<T extends MenuHolder> extends SyncedButton<T> {
+
+    /**
+     * The position for this button.
+     */
+    final @NotNull InventoryPosition position;
+
+    /**
+     * The positions for this button, in addition to {@link #position}
+     */
+    final @Nullable Collection<InventoryPosition> positions;
+
+    /**
+     * The permission to view this button.
+     */
+    final @Nullable String permission;
+
+    /**
+     * The animation to show.
+     */
+    final @NotNull AnimationClock.Animation animation;
+
+    /**
+     * The runnable to run when the holder clicks on the button.
+     */
+    final @Nullable MenuRunnable<T> onClick;
+
+    /**
+     * The key identifying this button across refreshes.
+     */
+    final @Nullable Object key;
+
+    /**
+     * Constructs a new SyncedButton.
+     *
+     * @param position   The position of the button.
+     * @param positions  Additional positions for the button.
+     * @param permission The permission to view this button.
+     * @param animation  The animation to show.
+     * @param onClick    The runnable to run when the holder clicks on the button.
+     * @param key        The key identifying this button across refreshes.
+     */
+    public SyncedButtonImpl(@NotNull InventoryPosition position, @Nullable Collection<InventoryPosition> positions,
+                            @Nullable String permission, @NotNull AnimationClock.Animation animation,
+                            @Nullable MenuRunnable<T> onClick,
+                            @Nullable Object key) {
+        this.position = position;
+        this.positions = positions;
+        this.permission = permission;
+        this.animation = animation;
+        this.onClick = onClick;
+        this.key = key;
+    }
+
+    @Override
+    public @NotNull AnimationClock.Animation getAnimation() {
+        return this.animation;
+    }
+
+    @Override
+    public @Nullable Object getKey() {
+        return this.key;
+    }
+
+    @Override
+    public @Nullable String getPermission() {
+        return this.permission == null || this.permission.isBlank() ? null : this.permission;
+    }
+
+    @Override
+    public @NotNull InventoryPosition getPosition() {
+        return this.position;
+    }
+
+    @Override
+    public @Nullable Collection<InventoryPosition> getPositions() {
+        return this.positions;
+    }
+
+    @Override
+    public void onClicked(T user, Menu<T> menu, ClickType click) {
+        if (this.onClick != null) {
+            this.onClick.run(user, menu, click);
+        }
+    }
+
+    /**
+     * Builder.
+     */
+    public static class Builder<T extends MenuHolder> {
+
+        /**
+         * The position.
+         *
+         * @param position The position to set as default.
+         * @return this builder for chaining.
+         */
+        public Builder<T> position(InventoryPosition position) {
+            this.position = position;
+            return this;
+        }
+
+        /**
+         * Set the position, using coordinates.
+         *
+         * @param row    The row for the item.
+         * @param column The colum for the item.
+         * @return this builder for chaining.
+         */
+        public Builder<T> position(int row, int column) {
+            return this.position(InventoryPosition.of(row, column));
+        }
+
+    }
+
+}
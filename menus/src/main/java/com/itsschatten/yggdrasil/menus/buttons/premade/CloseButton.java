@@ -1,6 +1,5 @@
 package com.itsschatten.yggdrasil.menus.buttons.premade;
 
-import com.itsschatten.yggdrasil.Utils;
 import com.itsschatten.yggdrasil.items.ItemCreator;
 import com.itsschatten.yggdrasil.items.ItemOptions;
 import com.itsschatten.yggdrasil.items.MetaManipulator;
@@ -8,8 +7,8 @@ import com.itsschatten.yggdrasil.menus.Menu;
 import com.itsschatten.yggdrasil.menus.buttons.Button;
 import com.itsschatten.yggdrasil.menus.utils.InventoryPosition;
 import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
+import com.itsschatten.yggdrasil.scheduler.Schedulers;
 import lombok.Singular;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryCloseEvent;
@@ -88,7 +87,7 @@ public final class CloseButton<T extends MenuHolder> extends Button<T> {
     public void onClicked(final @NotNull T user, final Menu<T> menu, final ClickType click) {
         user.player().closeInventory(InventoryCloseEvent.Reason.PLAYER);
         if (click == ClickType.NUMBER_KEY) {
-            Bukkit.getScheduler().runTaskLater(Utils.getInstance(), () -> user.player().updateInventory(), 15);
+            Schedulers.get().runLater(user.player(), () -> user.player().updateInventory(), 15);
         }
     }
 
@@ -0,0 +1,160 @@
+package com.itsschatten.yggdrasil.menus.layout;
+
+import com.itsschatten.yggdrasil.items.ItemCreator;
+import com.itsschatten.yggdrasil.menus.utils.SlotMask;
+import org.bukkit.Material;
+import org.jetbrains.annotations.NotNull;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.yaml.YamlConfigurationLoader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles a YAML file into a {@link MenuLayout}.
+ * <p>
+ * A layout file looks like:
+ * <pre>{@code
+ * title: "<dark_gray>Example"
+ * rows: 3
+ * layout:
+ *   - "#########"
+ *   - "#   A   #"
+ *   - "########X"
+ * items:
+ *   "#":
+ *     material: GRAY_STAINED_GLASS_PANE
+ *     name: " "
+ *   A:
+ *     material: DIAMOND
+ *     name: "<aqua>Diamond"
+ *     lore: ["<gray>Click me!"]
+ *     permission: example.diamond
+ *     action: diamond
+ *   X:
+ *     material: BARRIER
+ *     name: "<red>Close"
+ *     slots: [0]
+ *     action: close
+ * }</pre>
+ * Every character of the {@code layout} places the item with the same key, spaces are left empty.
+ * Items may also list effective {@code slots}, which are added to the slots placed by the layout.
+ */
+final class LayoutCompiler {
+
+    private LayoutCompiler() {
+    }
+
+    /**
+     * Compiles a layout file, building every item template.
+     *
+     * @param source The file.
+     * @return The compiled {@link MenuLayout}.
+     * @throws IOException              If the file can't be read or isn't valid YAML.
+     * @throws IllegalArgumentException If the file isn't a valid layout.
+     */
+    static @NotNull MenuLayout compile(final @NotNull Path source) throws IOException {
+        final ConfigurationNode root = YamlConfigurationLoader.builder().path(source).build().load();
+
+        final String fileName = source.getFileName().toString();
+        final int extension = fileName.lastIndexOf('.');
+        final String id = extension == -1 ? fileName : fileName.substring(0, extension);
+
+        final int rows = root.node("rows").getInt(3);
+        if (rows < 1 || rows > 6) {
+            throw invalid(source, "rows", "must be between 1 and 6, found " + rows);
+        }
+
+        final List<String> pattern = root.node("layout").getList(String.class, Collections.emptyList());
+        if (pattern.size() > rows) {
+            throw invalid(source, "layout", "has " + pattern.size() + " lines but the menu only has " + rows + " rows");
+        }
+
+        final List<LayoutItem> items = new ArrayList<>();
+        for (final Map.Entry<Object, ? extends ConfigurationNode> entry : root.node("items").childrenMap().entrySet()) {
+            final String key = String.valueOf(entry.getKey());
+            final ConfigurationNode node = entry.getValue();
+
+            long slots = 0L;
+            if (key.length() == 1) {
+                final char symbol = key.charAt(0);
+                for (int row = 0; row < pattern.size(); row++) {
+                    final String line = pattern.get(row);
+                    if (line.length() > 9) {
+                        throw invalid(source, "layout", "line " + (row + 1) + " is longer than 9 characters");
+                    }
+
+                    for (int column = 0; column < line.length(); column++) {
+                        if (line.charAt(column) == symbol) slots |= 1L << (row * 9 + column);
+                    }
+                }
+            }
+
+            for (final Integer slot : node.node("slots").getList(Integer.class, Collections.emptyList())) {
+                if (slot < 0 || slot >= rows * 9) {
+                    throw invalid(source, "items." + key + ".slots", "slot " + slot + " is outside the menu");
+                }
+                slots |= 1L << slot;
+            }
+
+            final ItemCreator creator = creator(source, key, node);
+            items.add(new LayoutItem(key, new SlotMask(slots), creator, creator.make(),
+                    blankToNull(node.node("permission").getString()), blankToNull(node.node("action").getString())));
+        }
+
+        // Every symbol in the layout must have an item.
+        for (int row = 0; row < pattern.size(); row++) {
+            for (final char symbol : pattern.get(row).toCharArray()) {
+                if (symbol == ' ') continue;
+                if (items.stream().noneMatch((item) -> item.key().length() == 1 && item.key().charAt(0) == symbol)) {
+                    throw invalid(source, "layout", "line " + (row + 1) + " uses '" + symbol + "' which has no item");
+                }
+            }
+        }
+
+        return new MenuLayout(id, source, root.node("title").getString(id), rows, Collections.unmodifiableList(items));
+    }
+
+    /**
+     * Reads the item creator of an item node.
+     *
+     * @param source The file.
+     * @param key    The key of the item.
+     * @param node   The item node.
+     * @return The {@link ItemCreator}.
+     * @throws IOException If a list can't be read.
+     */
+    private static @NotNull ItemCreator creator(final Path source, final String key, final @NotNull ConfigurationNode node) throws IOException {
+        final String materialName = node.node("material").getString();
+        final Material material = materialName == null ? null : Material.matchMaterial(materialName);
+        if (material == null) {
+            throw invalid(source, "items." + key + ".material", "unknown material '" + materialName + "'");
+        }
+
+        final ItemCreator.ItemCreatorBuilder builder = ItemCreator.of(material).amount(node.node("amount").getInt(1));
+
+        final String name = node.node("name").getString();
+        if (name != null) builder.name(name);
+
+        final String display = node.node("display").getString();
+        if (display != null) builder.display(display);
+
+        final List<String> lore = node.node("lore").getList(String.class, Collections.emptyList());
+        if (!lore.isEmpty()) builder.lore(lore);
+
+        return builder.build();
+    }
+
+    private static String blankToNull(final String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static @NotNull IllegalArgumentException invalid(final @NotNull Path source, final String path, final String message) {
+        return new IllegalArgumentException("Invalid menu layout " + source.getFileName() + " at '" + path + "': " + message);
+    }
+
+}
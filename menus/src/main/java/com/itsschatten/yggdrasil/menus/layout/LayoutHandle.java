@@ -0,0 +1,74 @@
+package com.itsschatten.yggdrasil.menus.layout;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The cached, current, {@link MenuLayout} of a file.
+ * <p>
+ * A reload compiles the new layout first and then swaps it in atomically,
+ * readers always see either the previous or the new layout, never a partially loaded one.
+ */
+public final class LayoutHandle {
+
+    /**
+     * The file of the layout.
+     */
+    private final Path source;
+
+    /**
+     * The current layout.
+     */
+    private final AtomicReference<MenuLayout> layout;
+
+    /**
+     * Constructs a new handle.
+     *
+     * @param layout The initial layout.
+     */
+    LayoutHandle(final @NotNull MenuLayout layout) {
+        this.source = layout.source();
+        this.layout = new AtomicReference<>(layout);
+    }
+
+    /**
+     * Get the current layout.
+     *
+     * @return The current {@link MenuLayout}.
+     */
+    public @NotNull MenuLayout current() {
+        return layout.get();
+    }
+
+    /**
+     * Get the file of the layout.
+     *
+     * @return The {@link Path} of the file.
+     */
+    public @NotNull Path source() {
+        return source;
+    }
+
+    /**
+     * Replaces the current layout.
+     *
+     * @param next The new layout.
+     * @return The previous layout.
+     */
+    @ApiStatus.Internal
+    MenuLayout swap(final @NotNull MenuLayout next) {
+        return layout.getAndSet(next);
+    }
+
+    @Override
+    public String toString() {
+        return "LayoutHandle{" +
+                "source=" + source +
+                ", layout=" + layout.get().id() +
+                '}';
+    }
+
+}
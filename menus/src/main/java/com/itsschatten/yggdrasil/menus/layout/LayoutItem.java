@@ -0,0 +1,33 @@
+package com.itsschatten.yggdrasil.menus.layout;
+
+import com.itsschatten.yggdrasil.items.ItemCreator;
+import com.itsschatten.yggdrasil.menus.utils.SlotMask;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An item of a compiled {@link MenuLayout}.
+ * <p>
+ * The template is built once when the layout is compiled, and must not be mutated.
+ *
+ * @param key        The key of the item in the layout file.
+ * @param slots      The slots the item is drawn to.
+ * @param creator    The creator the template was built from.
+ * @param template   The pre-built {@link ItemStack}.
+ * @param permission The permission required to view and click the item, {@code null} if none.
+ * @param action     The name of the action run when the item is clicked, {@code null} if the item is decoration.
+ */
+public record LayoutItem(@NotNull String key, @NotNull SlotMask slots, @NotNull ItemCreator creator, @NotNull ItemStack template,
+                         @Nullable String permission, @Nullable String action) {
+
+    /**
+     * Checks if this item is only decoration, decoration isn't registered as a button and is drawn below every button.
+     *
+     * @return {@code true} if this item has no action and no permission.
+     */
+    public boolean isDecoration() {
+        return action == null && permission == null;
+    }
+
+}
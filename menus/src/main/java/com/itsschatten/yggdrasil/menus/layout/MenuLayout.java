@@ -0,0 +1,30 @@
+package com.itsschatten.yggdrasil.menus.layout;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * An immutable menu layout, compiled from a YAML file by {@link MenuLayouts}.
+ *
+ * @param id     The id of the layout, the file name without its extension.
+ * @param source The file the layout was compiled from.
+ * @param title  The title of the menu.
+ * @param rows   The number of rows of the menu.
+ * @param items  The items of the layout, in the order they were declared.
+ */
+public record MenuLayout(@NotNull String id, @NotNull Path source, @NotNull String title, int rows,
+                         @NotNull @Unmodifiable List<LayoutItem> items) {
+
+    /**
+     * Get the size of the menu.
+     *
+     * @return The number of slots.
+     */
+    public int size() {
+        return rows * 9;
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.itsschatten.yggdrasil.menus.layout;
+
+import com.itsschatten.yggdrasil.Utils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads, caches and hot-reloads {@link MenuLayout menu layouts}.
+ * <p>
+ * A layout file is compiled once, when first {@link #load(Path) loaded}, every menu displaying it then only copies the pre-built items.
+ * Once a directory is {@link #watch(Path) watched}, modified layout files are recompiled on a background thread and swapped into their
+ * {@link LayoutHandle}, a file that fails to compile keeps its previous layout.
+ */
+public final class MenuLayouts {
+
+    /**
+     * The loaded layouts, keyed by their absolute file.
+     */
+    private static final Map<Path, LayoutHandle> LAYOUTS = new ConcurrentHashMap<>();
+
+    /**
+     * The watch service of the watched directories, {@code null} if no directory is watched.
+     */
+    private static WatchService watcher;
+
+    /**
+     * The thread polling {@link #watcher}.
+     */
+    private static Thread thread;
+
+    private MenuLayouts() {
+    }
+
+    /**
+     * Loads a layout file, a file that was already loaded isn't compiled again.
+     *
+     * @param file The layout file.
+     * @return The {@link LayoutHandle} of the file.
+     * @throws IOException              If the file can't be read or isn't valid YAML.
+     * @throws IllegalArgumentException If the file isn't a valid layout.
+     */
+    public static @NotNull LayoutHandle load(final @NotNull Path file) throws IOException {
+        final Path source = file.toAbsolutePath().normalize();
+
+        final LayoutHandle cached = LAYOUTS.get(source);
+        if (cached != null) return cached;
+
+        final LayoutHandle handle = new LayoutHandle(LayoutCompiler.compile(source));
+        final LayoutHandle previous = LAYOUTS.putIfAbsent(source, handle);
+        return previous == null ? handle : previous;
+    }
+
+    /**
+     * Get a loaded layout by its id, the name of its file without the extension.
+     *
+     * @param id The id.
+     * @return The {@link LayoutHandle}, {@code null} if no loaded layout has the id.
+     */
+    public static @Nullable LayoutHandle get(final @NotNull String id) {
+        for (final LayoutHandle handle : LAYOUTS.values()) {
+            if (handle.current().id().equals(id)) return handle;
+        }
+        return null;
+    }
+
+    /**
+     * Compiles a loaded layout file again and swaps the new layout in.
+     *
+     * @param file The layout file.
+     * @return {@code true} if the layout was reloaded, {@code false} if the file isn't loaded.
+     * @throws IOException              If the file can't be read or isn't valid YAML, the previous layout is kept.
+     * @throws IllegalArgumentException If the file isn't a valid layout, the previous layout is kept.
+     */
+    public static boolean reload(final @NotNull Path file) throws IOException {
+        final Path source = file.toAbsolutePath().normalize();
+
+        final LayoutHandle handle = LAYOUTS.get(source);
+        if (handle == null) return false;
+
+        handle.swap(LayoutCompiler.compile(source));
+        return true;
+    }
+
+    /**
+     * Watches a directory for modified layout files, reloading them as they change.
+     * Only files that were already {@link #load(Path) loaded} are reloaded.
+     *
+     * @param directory The directory.
+     * @throws IOException If the directory can't be watched.
+     */
+    public static synchronized void watch(final @NotNull Path directory) throws IOException {
+        if (watcher == null) {
+            watcher = FileSystems.getDefault().newWatchService();
+
+            thread = new Thread(MenuLayouts::poll, "yggdrasil-layout-watcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        directory.toAbsolutePath().normalize().register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+
+    /**
+     * Stops watching every directory and clears every loaded layout.
+     */
+    public static synchronized void close() {
+        if (watcher != null) {
+            try {
+                watcher.close();
+            } catch (final IOException ex) {
+                Utils.logError(ex);
+            }
+
+            thread.interrupt();
+            watcher = null;
+            thread = null;
+        }
+
+        LAYOUTS.clear();
+    }
+
+    /**
+     * Polls the watch service until it is closed.
+     */
+    private static void poll() {
+        final WatchService service = watcher;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            final WatchKey key;
+            try {
+                key = service.take();
+            } catch (final InterruptedException | ClosedWatchServiceException ex) {
+                return;
+            }
+
+            final Path directory = (Path) key.watchable();
+            for (final WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) continue;
+
+                final Path file = directory.resolve((Path) event.context());
+                try {
+                    if (reload(file)) {
+                        Utils.log("Reloaded menu layout " + file.getFileName() + ".");
+                    }
+                } catch (final IOException | RuntimeException ex) {
+                    Utils.logError("Failed to reload menu layout " + file.getFileName() + ", keeping the previous layout.");
+                    Utils.logError(ex);
+                }
+            }
+
+            key.reset();
+        }
+    }
+
+}
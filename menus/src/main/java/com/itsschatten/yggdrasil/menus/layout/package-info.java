@@ -0,0 +1,5 @@
+/**
+ * Declarative menu layouts, compiled from YAML files and displayed by a
+ * {@link com.itsschatten.yggdrasil.menus.types.LayoutMenu}.
+ */
+package com.itsschatten.yggdrasil.menus.layout;
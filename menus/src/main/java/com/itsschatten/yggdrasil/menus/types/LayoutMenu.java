@@ -0,0 +1,157 @@
+package com.itsschatten.yggdrasil.menus.types;
+
+import com.itsschatten.yggdrasil.Utils;
+import com.itsschatten.yggdrasil.items.ItemCreator;
+import com.itsschatten.yggdrasil.menus.Menu;
+import com.itsschatten.yggdrasil.menus.buttons.Button;
+import com.itsschatten.yggdrasil.menus.buttons.interfaces.AlternativeDisplayItem;
+import com.itsschatten.yggdrasil.menus.layout.LayoutHandle;
+import com.itsschatten.yggdrasil.menus.layout.LayoutItem;
+import com.itsschatten.yggdrasil.menus.layout.MenuLayout;
+import com.itsschatten.yggdrasil.menus.utils.InventoryPosition;
+import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
+import com.itsschatten.yggdrasil.menus.utils.MenuRunnable;
+import lombok.Getter;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A menu drawn from a {@link MenuLayout}.
+ * <p>
+ * Items of the layout with an action or a permission are registered as buttons, the action is looked up in the provided actions.
+ * Every other item is decoration and is drawn below the buttons.
+ * When the layout is hot-reloaded the new items are drawn on the next refresh, the title and size of an already constructed menu don't change.
+ *
+ * @param <T> The holder type.
+ */
+public class LayoutMenu<T extends MenuHolder> extends StandardMenu<T> {
+
+    /**
+     * The handle of the layout.
+     * --- GETTER ---
+     * Get the handle of the layout of this menu.
+     *
+     * @return The {@link LayoutHandle}.
+     */
+    @Getter
+    private final LayoutHandle handle;
+
+    /**
+     * The actions run by the buttons of the layout, keyed by their name.
+     */
+    private final Map<String, MenuRunnable<T>> actions;
+
+    /**
+     * The layout the current buttons were made from.
+     */
+    private volatile MenuLayout layout;
+
+    /**
+     * Constructs a new layout menu.
+     *
+     * @param parent  The parent (or previous) menu.
+     * @param handle  The handle of the layout to draw.
+     * @param actions The actions run by the buttons of the layout, keyed by their name.
+     */
+    public LayoutMenu(final @Nullable Menu<T> parent, final @NotNull LayoutHandle handle, final @NotNull Map<String, MenuRunnable<T>> actions) {
+        super(parent, handle.current().title(), handle.current().size());
+        this.handle = handle;
+        this.actions = Map.copyOf(actions);
+        this.layout = handle.current();
+    }
+
+    /**
+     * Makes a button for every item of the current layout that isn't decoration.
+     *
+     * @return The buttons.
+     */
+    @Override
+    public List<Button<T>> makeButtons() {
+        layout = handle.current();
+
+        final List<Button<T>> buttons = new ArrayList<>(layout.items().size());
+        for (final LayoutItem item : layout.items()) {
+            if (item.isDecoration() || item.slots().isEmpty()) continue;
+            buttons.add(new LayoutButton(item));
+        }
+        return buttons;
+    }
+
+    /**
+     * Draws the decoration of the current layout.
+     */
+    @Override
+    public void drawExtra() {
+        for (final LayoutItem item : layout.items()) {
+            if (item.isDecoration()) set(item.slots(), item.template());
+        }
+    }
+
+    /**
+     * A button made from an item of the layout, its item is the pre-built template.
+     */
+    private final class LayoutButton extends Button<T> implements AlternativeDisplayItem {
+
+        /**
+         * The item of the layout.
+         */
+        private final LayoutItem item;
+
+        /**
+         * The positions of the item.
+         */
+        private final List<InventoryPosition> positions;
+
+        private LayoutButton(final @NotNull LayoutItem item) {
+            this.item = item;
+            this.positions = item.slots().positions();
+        }
+
+        @Override
+        public ItemCreator createItem() {
+            return item.creator();
+        }
+
+        @Override
+        public ItemStack displayItem() {
+            return item.template();
+        }
+
+        @Override
+        public void onClicked(final T user, final Menu<T> menu, final ClickType click) {
+            if (item.action() == null) return;
+
+            final MenuRunnable<T> action = actions.get(item.action());
+            if (action == null) {
+                Utils.logWarning("Menu layout " + layout.id() + " uses the action '" + item.action() + "' which isn't bound.");
+                return;
+            }
+
+            action.run(user, menu, click);
+        }
+
+        @Override
+        public @NotNull InventoryPosition getPosition() {
+            return positions.getFirst();
+        }
+
+        @Override
+        public Collection<InventoryPosition> getPositions() {
+            return positions;
+        }
+
+        @Override
+        public @Nullable String getPermission() {
+            return item.permission();
+        }
+
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.itsschatten.yggdrasil.menus.types;
+
+import com.itsschatten.yggdrasil.items.ItemCreator;
+import com.itsschatten.yggdrasil.menus.Menu;
+import com.itsschatten.yggdrasil.menus.types.interfaces.LazyPages;
+import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
+import com.itsschatten.yggdrasil.menus.utils.MenuPage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A {@link PageMenu} making each page the first time it is viewed, through {@link #pageCount()} and {@link #makePage(int)}.
+ * <p>
+ * Override {@link #makeNavButton(int)} as well to avoid making every page just to draw the navigation.
+ */
+public abstract class LazyPageMenu<T extends MenuHolder> extends PageMenu<T> implements LazyPages<T> {
+
+    /**
+     * Constructs a LazyPageMenu.
+     *
+     * @param parent      The parent for this menu, used to return to later.
+     * @param defaultItem The item that will replace previously placed page buttons.
+     */
+    public LazyPageMenu(@Nullable Menu<T> parent, String title, int size, ItemCreator defaultItem) {
+        super(parent, title, size, defaultItem);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return Returns {@link #pages()}, making every page that hasn't been made yet.
+     */
+    @Override
+    public final @NotNull List<MenuPage<T>> makePages() {
+        return pages();
+    }
+
+}
@@ -3,8 +3,12 @@ package com.itsschatten.yggdrasil.menus.types;
 import com.itsschatten.yggdrasil.items.ItemCreator;
 import com.itsschatten.yggdrasil.menus.Menu;
 import com.itsschatten.yggdrasil.menus.buttons.Button;
+import com.itsschatten.yggdrasil.menus.buttons.premade.PageNavigationButton;
+import com.itsschatten.yggdrasil.menus.types.interfaces.LazyPages;
+import com.itsschatten.yggdrasil.menus.utils.ButtonIndex;
 import com.itsschatten.yggdrasil.menus.utils.InventoryPosition;
 import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
+import com.itsschatten.yggdrasil.menus.utils.SlotMask;
 import com.itsschatten.yggdrasil.menus.utils.MenuPage;
 import lombok.Getter;
 import lombok.experimental.Accessors;
@@ -17,11 +21,16 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * A menu that can show different pages based on the page viewed without the need to open a new menu each time.
+ * <p>
+ * The pages are made once and memoized until {@link #invalidatePages()} is called, or the menu is {@link #refresh() refreshed}.
+ * Menus implementing {@link LazyPages}, such as {@link LazyPageMenu}, have each page made the first time it is viewed instead.
  */
 public abstract class PageMenu<T extends MenuHolder> extends StandardMenu<T> {
 
@@ -30,6 +39,11 @@ public abstract class PageMenu<T extends MenuHolder> extends StandardMenu<T> {
      */
     private final List<Button<T>> registeredPageButtons = new ArrayList<>();
 
+    /**
+     * A per-slot index of {@link #registeredPageButtons}, used to resolve clicked page buttons.
+     */
+    private final ButtonIndex<T> pageButtonIndex;
+
     /**
      * The default {@link ItemStack}, designated by {@link ItemCreator}, that will be placed in previous page button places.
      */
@@ -57,6 +71,16 @@ public abstract class PageMenu<T extends MenuHolder> extends StandardMenu<T> {
      */
     private MenuPage<T> previousPage;
 
+    /**
+     * The memoized pages, pages that haven't been made yet are {@code null}, {@code null} until the pages are first used.
+     */
+    private MenuPage<T>[] pages;
+
+    /**
+     * The navigation buttons of every page, by the viewed page they were made for.
+     */
+    private final Map<Integer, List<Button<T>>> navButtons = new HashMap<>();
+
     /**
      * Constructs a PageMenu.
      *
@@ -65,23 +89,91 @@ public abstract class PageMenu<T extends MenuHolder> extends StandardMenu<T> {
      */
     public PageMenu(@Nullable Menu<T> parent, String title, int size, ItemCreator defaultItem) {
         super(parent, title, size);
+        this.pageButtonIndex = new ButtonIndex<>(size);
+        registerResolver(this::getPageButton);
         this.defaultItem = defaultItem == null ? ItemCreator.of(Material.AIR).build() : defaultItem;
     }
 
     /**
-     * The list of {@link MenuPage}.
+     * The list of {@link MenuPage}, called once until the pages are {@link #invalidatePages() invalidated}.
+     * <p>
+     * Not called for menus implementing {@link LazyPages}, their pages are made through {@link LazyPages#makePage(int)}.
      *
      * @return Returns a {@link List} of {@link MenuPage}s.
      */
     public abstract @NotNull List<MenuPage<T>> makePages();
 
     /**
-     * A "constant" value of pages.
+     * The navigation button of a page, by default the navigation button of the {@link #page(int) page}.
+     * <p>
+     * Menus implementing {@link LazyPages} should override this to avoid making every page just to draw the navigation.
      *
-     * @return Returns {@link #makePages()}.
+     * @param page The page number, starting at {@code 1}.
+     * @return The {@link PageNavigationButton} of the page.
+     */
+    protected @NotNull PageNavigationButton makeNavButton(final int page) {
+        return page(page).navButton();
+    }
+
+    /**
+     * Get the memoized pages, making any that haven't been made yet.
+     *
+     * @return Returns an unmodifiable list of every {@link MenuPage}.
      */
     public final @NotNull List<MenuPage<T>> pages() {
-        return makePages();
+        final List<MenuPage<T>> all = new ArrayList<>(totalPages());
+        for (int page = 1; page <= totalPages(); page++) {
+            all.add(page(page));
+        }
+        return Collections.unmodifiableList(all);
+    }
+
+    /**
+     * Get a memoized page, making it if it hasn't been made yet.
+     *
+     * @param page The page number, starting at {@code 1}.
+     * @return The {@link MenuPage}.
+     * @throws IndexOutOfBoundsException If the page doesn't exist.
+     */
+    @SuppressWarnings("unchecked")
+    public final @NotNull MenuPage<T> page(final int page) {
+        final MenuPage<T>[] model = model();
+        if (model[page - 1] == null && this instanceof final LazyPages<?> lazy) {
+            model[page - 1] = (MenuPage<T>) lazy.makePage(page);
+        }
+        return model[page - 1];
+    }
+
+    /**
+     * Get the number of pages, without making any page when pages are made lazily.
+     *
+     * @return The number of pages.
+     */
+    public final int totalPages() {
+        return model().length;
+    }
+
+    /**
+     * Drops the memoized pages and navigation buttons, they are made again the next time they are used.
+     * <p>
+     * Call {@link #refreshPage()} afterward to redraw the viewed page.
+     */
+    public final void invalidatePages() {
+        this.pages = null;
+        this.navButtons.clear();
+    }
+
+    /**
+     * Get the memoized page model, making it if required.
+     *
+     * @return The pages.
+     */
+    @SuppressWarnings("unchecked")
+    private MenuPage<T> @NotNull [] model() {
+        if (pages == null) {
+            pages = this instanceof final LazyPages<?> lazy ? new MenuPage[lazy.pageCount()] : makePages().toArray(new MenuPage[0]);
+        }
+        return pages;
     }
 
     /**
@@ -100,6 +192,7 @@ public abstract class PageMenu<T extends MenuHolder> extends StandardMenu<T> {
      */
     public final void registerPageButtons(Collection<Button<T>> buttons) {
         registeredPageButtons.addAll(buttons);
+        pageButtonIndex.addAll(buttons);
     }
 
     /**
@@ -109,7 +202,7 @@ public abstract class PageMenu<T extends MenuHolder> extends StandardMenu<T> {
      */
     @SafeVarargs
     public final void registerPageButtons(Button<T>... buttons) {
-        registeredPageButtons.addAll(Arrays.stream(buttons).collect(Collectors.toSet()));
+        registerPageButtons(Arrays.asList(buttons));
     }
 
     /**
@@ -120,10 +213,17 @@ public abstract class PageMenu<T extends MenuHolder> extends StandardMenu<T> {
      */
     @Override
     public boolean isSlotTakenByButton(InventoryPosition position) {
-        return registeredPageButtons.stream()
-                .filter(button -> button.getPermission() == null || holder().hasPermission(button.getPermission()))
-                .anyMatch(button -> button.getPosition().equals(position))
-                || super.isSlotTakenByButton(position);
+        return hasViewableButton(position, pageButtonIndex) || super.isSlotTakenByButton(position);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return A {@link SlotMask} of the slots.
+     */
+    @Override
+    public @NotNull SlotMask getButtonSlots() {
+        return viewableButtonSlots(pageButtonIndex).union(super.getButtonSlots());
     }
 
     /**
@@ -132,6 +232,7 @@ public abstract class PageMenu<T extends MenuHolder> extends StandardMenu<T> {
     public final void clearPreviousPage() {
         this.previousPage.positions().forEach(pos -> forceSet(pos, defaultItem));
         registeredPageButtons.clear();
+        pageButtonIndex.clear();
     }
 
     /**
@@ -142,8 +243,8 @@ public abstract class PageMenu<T extends MenuHolder> extends StandardMenu<T> {
      */
     @ApiStatus.Internal
     public final void switchPage(final int page) {
-        if (page > pages().size() || page < 1) {
-            throw new IllegalStateException("Invalid page number: " + page + ". Must be between 1 and " + pages().size());
+        if (page > totalPages() || page < 1) {
+            throw new IllegalStateException("Invalid page number: " + page + ". Must be between 1 and " + totalPages());
         }
 
         // We can ignore changing to the same page.
@@ -159,37 +260,74 @@ public abstract class PageMenu<T extends MenuHolder> extends StandardMenu<T> {
      * Refresh the currently viewed page.
      */
     public final void refreshPage() {
+        metrics().redraw();
+        invalidatePermissions();
         drawPage();
     }
 
     /**
-     * Draws the page to the menu.
+     * Draws the page to the menu, only the viewed page is made if it hasn't been made yet.
      */
     private void drawPage() {
-        final List<MenuPage<T>> pages = this.pages();
-        final MenuPage<T> menuPage = pages.get(viewedPage - 1);
+        final int total = totalPages();
+        if (total == 0) return;
+        if (viewedPage > total) viewedPage = total;
+
+        final MenuPage<T> menuPage = page(viewedPage);
 
         if (this.currentPage != null && this.currentPage != menuPage)
             this.previousPage = this.currentPage;
 
         this.currentPage = menuPage;
 
+        // Page buttons are re-registered below, drop any left from the last draw of this page.
+        registeredPageButtons.clear();
+        pageButtonIndex.clear();
+
         menuPage.register(this);
-        pages.forEach(page -> registerPageButtons(page.navButton().make(viewedPage)));
+        registerPageButtons(navButtons(viewedPage));
         drawListOfButtons(registeredPageButtons);
     }
 
+    /**
+     * Get the navigation buttons of every page while a page is viewed, made once per viewed page.
+     *
+     * @param viewed The viewed page.
+     * @return The navigation buttons.
+     */
+    @SuppressWarnings("unchecked")
+    private @NotNull List<Button<T>> navButtons(final int viewed) {
+        return navButtons.computeIfAbsent(viewed, (key) -> {
+            final List<Button<T>> made = new ArrayList<>(totalPages());
+            for (int page = 1; page <= totalPages(); page++) {
+                made.add(makeNavButton(page).make(viewed));
+            }
+            return Collections.unmodifiableList(made);
+        });
+    }
+
     /**
      * Get a {@link Button} from the {@link #registeredPageButtons} based on the {@link ItemStack} provided.
      *
      * @param stack    The item stack clicked.
      * @param position The position clicked.
-     * @return Returns {@link #getButtonImpl(ItemStack, InventoryPosition, List)}.
+     * @return Returns {@link #getButtonImpl(ItemStack, InventoryPosition, ButtonIndex)}.
      */
     public final Button<T> getPageButton(final ItemStack stack, InventoryPosition position) {
         if (stack == null) return null;
 
-        return getButtonImpl(stack, position, registeredPageButtons);
+        return getButtonImpl(stack, position, pageButtonIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The memoized pages are made again.
+     */
+    @Override
+    public void refresh() {
+        invalidatePages();
+        super.refresh();
     }
 
     /**
@@ -5,15 +5,21 @@ import com.itsschatten.yggdrasil.items.ItemCreator;
 import com.itsschatten.yggdrasil.menus.Menu;
 import com.itsschatten.yggdrasil.menus.buttons.AnimatedButton;
 import com.itsschatten.yggdrasil.menus.buttons.Button;
+import com.itsschatten.yggdrasil.menus.buttons.interfaces.AlternativeDisplayItem;
 import com.itsschatten.yggdrasil.menus.buttons.premade.NavigationButton;
+import com.itsschatten.yggdrasil.menus.utils.ButtonIndex;
 import com.itsschatten.yggdrasil.menus.utils.InventoryPosition;
+import com.itsschatten.yggdrasil.menus.utils.ListPageSource;
 import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
-import com.itsschatten.yggdrasil.menus.utils.MenuPaginator;
+import com.itsschatten.yggdrasil.menus.utils.SlotMask;
+import com.itsschatten.yggdrasil.menus.utils.PageSource;
 import com.itsschatten.yggdrasil.menus.utils.ReschedulableTask;
+import com.itsschatten.yggdrasil.menus.utils.StackCache;
+import com.itsschatten.yggdrasil.scheduler.Schedulers;
 import lombok.Getter;
 import lombok.Setter;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.ItemStack;
@@ -24,10 +30,16 @@ import org.jetbrains.annotations.Unmodifiable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Indicates a menu that is capable of being paginated, allowing different items to be shown on a different page.
+ * <p>
+ * Values are provided by a {@link PageSource}, only the values of the viewed page are fetched.
+ * While an asynchronous page is loading the {@link #getLoadingItem() loading item} is shown in its place.
  *
  * @param <T> The object that is being paged.
  */
@@ -49,11 +61,72 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
     private final List<Button<T>> registeredPageButtons = new ArrayList<>();
 
     /**
-     * The pages for this menu.
+     * A per-slot index of {@link #registeredPageButtons}, rebuilt whenever the page is drawn.
+     */
+    private final ButtonIndex<T> pageButtonIndex;
+
+    /**
+     * The source of the values paged by this menu.
+     */
+    @Getter
+    private PageSource<V> source;
+
+    /**
+     * The values of the viewed page, empty while the page is loading.
+     */
+    private List<V> pageValues = Collections.emptyList();
+
+    /**
+     * The page {@link #pageValues} was fetched for, {@code 0} if no page has been fetched.
+     */
+    private int loadedPage;
+
+    /**
+     * Stacks rendered in the background for the values of the viewed page, by index, {@code null} if the page wasn't prefetched.
+     */
+    private List<ItemStack> pageStacks;
+
+    /**
+     * Pages prefetched in the background, by page number.
+     */
+    private final Map<Integer, Prefetched<V>> prefetched = new HashMap<>();
+
+    /**
+     * Incremented every time prefetching is restarted or canceled, used to abandon outdated prefetches.
+     */
+    private volatile int prefetchGeneration;
+
+    /**
+     * The page that neighbouring pages were last prefetched around, {@code 0} if none.
+     */
+    private int prefetchedAround;
+
+    /**
+     * Should the pages before and after the viewed page be prefetched in the background?
+     * <p>
+     * When enabled, {@link #convertToStack(Object)} is called off the main thread and must be thread-safe.
+     */
+    @Getter
+    @Setter
+    private boolean prefetch;
+
+    /**
+     * Rendered stacks of page values, disabled unless a size is set.
      *
-     * @see MenuPaginator
+     * @see #setStackCacheSize(int)
+     */
+    private final StackCache<V> stackCache = new StackCache<>(0);
+
+    /**
+     * Incremented every time a page is fetched, used to discard fetches that completed after a newer fetch was started.
      */
-    private final MenuPaginator<V> paginator;
+    private int fetchGeneration;
+
+    /**
+     * Is the viewed page waiting on an asynchronous fetch?
+     */
+    @Getter
+    private boolean loading;
 
     /**
      * Should we add the page counting item?
@@ -85,7 +158,9 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
     public PaginatedMenu(final Menu<T> parent, String title, int size, List<V> pages, boolean center) {
         super(parent, title, size);
         this.center = center;
-        this.paginator = new MenuPaginator<>(getUsableFromSize(size), pages);
+        this.pageButtonIndex = new ButtonIndex<>(size);
+        registerResolver(this::getPageButton);
+        this.source = PageSource.of(pages);
     }
 
     /**
@@ -97,7 +172,9 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
     public PaginatedMenu(final Menu<T> parent, String title, int size, List<V> pages) {
         super(parent, title, size);
         this.center = false;
-        this.paginator = new MenuPaginator<>(getUsableFromSize(size), pages);
+        this.pageButtonIndex = new ButtonIndex<>(size);
+        registerResolver(this::getPageButton);
+        this.source = PageSource.of(pages);
     }
 
     /**
@@ -110,7 +187,9 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
     public PaginatedMenu(final Menu<T> parent, String title, int size, @NotNull Collection<V> pages, boolean center) {
         super(parent, title, size);
         this.center = center;
-        this.paginator = new MenuPaginator<>(getUsableFromSize(size), pages);
+        this.pageButtonIndex = new ButtonIndex<>(size);
+        registerResolver(this::getPageButton);
+        this.source = PageSource.of(pages);
     }
 
     /**
@@ -122,7 +201,34 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
     public PaginatedMenu(final Menu<T> parent, String title, int size, @NotNull Collection<V> pages) {
         super(parent, title, size);
         this.center = false;
-        this.paginator = new MenuPaginator<>(getUsableFromSize(size), pages);
+        this.pageButtonIndex = new ButtonIndex<>(size);
+        registerResolver(this::getPageButton);
+        this.source = PageSource.of(pages);
+    }
+
+    /**
+     * Base implementation.
+     *
+     * @param parent The parent of this menu.
+     * @param source The {@link PageSource} providing the values we want to page for this menu.
+     * @param center Should we center the items in the middle of the inventory?
+     */
+    public PaginatedMenu(final Menu<T> parent, String title, int size, @NotNull PageSource<V> source, boolean center) {
+        super(parent, title, size);
+        this.center = center;
+        this.pageButtonIndex = new ButtonIndex<>(size);
+        registerResolver(this::getPageButton);
+        this.source = source;
+    }
+
+    /**
+     * Base implementation.
+     *
+     * @param parent The parent of this menu.
+     * @param source The {@link PageSource} providing the values we want to page for this menu.
+     */
+    public PaginatedMenu(final Menu<T> parent, String title, int size, @NotNull PageSource<V> source) {
+        this(parent, title, size, source, false);
     }
 
     /**
@@ -148,10 +254,17 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
      */
     @Override
     public boolean isSlotTakenByButton(InventoryPosition position) {
-        return registeredPageButtons.stream()
-                .filter(button -> button.getPermission() == null || holder().hasPermission(button.getPermission()))
-                .anyMatch((button) -> button.getPosition().equals(position))
-                || super.isSlotTakenByButton(position);
+        return hasViewableButton(position, pageButtonIndex) || super.isSlotTakenByButton(position);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return A {@link SlotMask} of the slots.
+     */
+    @Override
+    public @NotNull SlotMask getButtonSlots() {
+        return viewableButtonSlots(pageButtonIndex).union(super.getButtonSlots());
     }
 
     /**
@@ -167,13 +280,14 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
         }
 
         registeredPageButtons.add(button);
+        pageButtonIndex.add(button);
 
         // If a button is animated, we want to register a task.
         if (button instanceof final AnimatedButton<T> animatedButton) {
             final ReschedulableTask task = new ReschedulableTask(animatedButton.getUpdateTime(), ReschedulableTask.Type.BUTTON) {
                 @Override
                 public void run() {
-                    animatedButton.run(PaginatedMenu.this);
+                    executeForViewer(() -> animatedButton.run(PaginatedMenu.this));
                 }
             };
 
@@ -195,25 +309,59 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
     public final Button<T> getPageButton(final ItemStack stack, InventoryPosition position) {
         if (stack == null) return null;
 
-        return getButtonImpl(stack, position, registeredPageButtons);
+        return getButtonImpl(stack, position, pageButtonIndex);
     }
 
     /**
      * Updates the list and backend pages of for this menu.
+     * <p>
+     * If this menu isn't backed by a {@link ListPageSource} its source is replaced by one.
      *
      * @param list The list that should be set as this Menu's.
      */
     public final void updateValues(final Collection<V> list) {
-        this.paginator.getValues().clear();
-        this.paginator.getValues().addAll(list);
-        this.paginator.recalculate();
+        invalidateAll();
+        if (this.source instanceof final ListPageSource<V> listSource) {
+            listSource.setAll(list);
+        } else {
+            this.source = PageSource.of(list);
+        }
+
+        invalidatePage();
     }
 
     /**
-     * Refreshes the currently viewed page.
+     * Replaces the {@link PageSource} of this menu, the menu must be {@link #refresh() refreshed} to show the new values.
+     *
+     * @param source The new source.
+     */
+    public final void setSource(final @NotNull PageSource<V> source) {
+        invalidateAll();
+        this.source = source;
+        invalidatePage();
+    }
+
+    /**
+     * Marks the viewed page as stale, causing it to be fetched again the next time it is drawn.
+     */
+    public final void invalidatePage() {
+        this.loadedPage = 0;
+        cancelPrefetch();
+    }
+
+    /**
+     * Refreshes the currently viewed page, fetching its values again.
      */
     @Override
     public final void refresh() {
+        invalidatePage();
+        navigate();
+    }
+
+    /**
+     * Refreshes the menu after the viewed page changed, keeping any fetched or prefetched pages.
+     */
+    private void navigate() {
         super.refresh();
         clearPage();
         forceDrawPage();
@@ -289,6 +437,7 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
         // Failing to do so may cause double execution of a method which we don't want, especially if it references the
         // same data or the data is no longer present.
         this.registeredPageButtons.clear();
+        this.pageButtonIndex.clear();
 
         drawExtra();
         updateTitleAndButtons();
@@ -304,6 +453,15 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
         // Define our usable so we can place them in the correct slots.
         final int usable = getUsableFromSize(getSize());
 
+        // Fetch the page if required, if it's still loading show the placeholders instead.
+        ensurePage();
+        if (loading) {
+            drawLoading(usable);
+            return;
+        }
+
+        prefetchNeighbours();
+
         // Use center positions.
         if (center) {
             for (int i = 0; i < usable; i++) {
@@ -327,6 +485,164 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
         }
     }
 
+    /**
+     * Fetches the values of the viewed page, unless they have already been fetched.
+     * <p>
+     * If the {@link PageSource} completes asynchronously, the page is drawn once the values are available on the main thread.
+     */
+    private void ensurePage() {
+        if (this.page == 0 || this.loadedPage == this.page) return;
+
+        final int usable = getUsableFromSize(getSize());
+        final int generation = ++this.fetchGeneration;
+        this.loadedPage = this.page;
+        this.pageStacks = null;
+
+        // Swap in the page if it was prefetched.
+        final Prefetched<V> ready = this.prefetched.remove(this.page);
+        if (ready != null) {
+            this.pageValues = ready.values();
+            this.pageStacks = ready.stacks();
+            this.loading = false;
+            return;
+        }
+
+        final CompletableFuture<List<V>> future = source.fetch((this.page - 1) * usable, usable);
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            this.pageValues = unmodifiable(future.join());
+            this.loading = false;
+            return;
+        }
+
+        this.pageValues = Collections.emptyList();
+        this.loading = true;
+        future.whenComplete((values, throwable) -> viewerExecutor().execute(() -> {
+            // A newer page was requested while we were loading.
+            if (generation != this.fetchGeneration) return;
+
+            if (throwable != null) {
+                Utils.logError(throwable);
+            }
+
+            this.pageValues = throwable == null ? unmodifiable(values) : Collections.emptyList();
+            this.loading = false;
+
+            redrawPage();
+        }));
+    }
+
+    /**
+     * Starts prefetching the pages before and after the viewed page, if {@link #isPrefetch() enabled} and not already started.
+     */
+    private void prefetchNeighbours() {
+        if (!this.prefetch || this.prefetchedAround == this.page) return;
+
+        // Drop anything prefetched for the previous page that isn't a neighbour of this one.
+        this.prefetched.keySet().removeIf((prefetchedPage) -> Math.abs(prefetchedPage - this.page) != 1);
+        this.prefetchedAround = this.page;
+        final int generation = ++this.prefetchGeneration;
+
+        final int usable = getUsableFromSize(getSize());
+        final int total = getTotalPages();
+        for (final int neighbour : new int[]{this.page - 1, this.page + 1}) {
+            if (neighbour < 1 || neighbour > total || this.prefetched.containsKey(neighbour)) continue;
+
+            source.fetch((neighbour - 1) * usable, usable)
+                    .thenApplyAsync((values) -> render(values, generation), Schedulers.get().asyncExecutor())
+                    .whenComplete((result, throwable) -> {
+                        if (throwable != null || result == null) return;
+
+                        viewerExecutor().execute(() -> {
+                            if (generation != this.prefetchGeneration) return;
+                            this.prefetched.put(neighbour, result);
+                        });
+                    });
+        }
+    }
+
+    /**
+     * Renders the values of a prefetched page, runs off the main thread.
+     *
+     * @param values     The values of the page.
+     * @param generation The prefetch generation this render belongs to.
+     * @return The prefetched page, {@code null} if prefetching was canceled while rendering.
+     */
+    private @Nullable Prefetched<V> render(final @Nullable List<V> values, final int generation) {
+        final List<V> page = unmodifiable(values);
+        final List<ItemStack> stacks = new ArrayList<>(page.size());
+        for (final V value : page) {
+            if (generation != this.prefetchGeneration) return null;
+
+            final ItemCreator creator = convertToStack(value);
+            stacks.add(creator == null ? null : creator.make());
+        }
+
+        return new Prefetched<>(page, stacks);
+    }
+
+    /**
+     * Cancels any running prefetches and drops all prefetched pages.
+     */
+    private void cancelPrefetch() {
+        this.prefetchGeneration++;
+        this.prefetchedAround = 0;
+        this.prefetched.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cancels any running prefetches.
+     */
+    @Override
+    protected void cancelBackgroundWork() {
+        cancelPrefetch();
+    }
+
+    /**
+     * Wraps fetched values in an unmodifiable list.
+     *
+     * @param values The values.
+     * @return The unmodifiable values, empty if the values are {@code null}.
+     */
+    private @NotNull @Unmodifiable List<V> unmodifiable(final @Nullable List<V> values) {
+        return values == null ? Collections.emptyList() : Collections.unmodifiableList(values);
+    }
+
+    /**
+     * Draws the {@link #getLoadingItem() loading item} into the slots of the values being loaded.
+     *
+     * @param usable The number of usable slots.
+     */
+    private void drawLoading(final int usable) {
+        final ItemCreator loadingItem = getLoadingItem();
+        if (loadingItem == null) return;
+
+        final int expected = Math.min(usable, source.count() - (this.page - 1) * usable);
+        for (int i = 0; i < expected; i++) {
+            final InventoryPosition position;
+            if (center) {
+                position = InventoryPosition.MIDDLE_POSITIONS.get(i);
+            } else if (getPlaceablePositions() != null && !getPlaceablePositions().isEmpty()) {
+                position = getPlaceablePositions().get(i);
+            } else {
+                position = InventoryPosition.of(i / 9, i % 9);
+            }
+
+            forceSet(position, loadingItem);
+        }
+    }
+
+    /**
+     * The item shown in place of values while an asynchronous page is loading.
+     *
+     * @return An {@link ItemCreator} or {@code null} to leave the slots empty.
+     */
+    @Nullable
+    public ItemCreator getLoadingItem() {
+        return ItemCreator.of(Material.GRAY_STAINED_GLASS_PANE).name("<gray>Loading...").build();
+    }
+
     /**
      * Make a button with a set position.
      *
@@ -335,23 +651,7 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
      * @return Returns a new {@link Button}.
      */
     private @NotNull Button<T> makeButton(int iteration, final List<InventoryPosition> placeablePositions) {
-        final V obj = getPageValues().get(iteration);
-        return new Button<>() {
-            @Override
-            public ItemCreator createItem() {
-                return convertToStack(obj);
-            }
-
-            @Override
-            public void onClicked(T user, Menu<T> menu, ClickType click) {
-                onClickPageItem(user, obj, click);
-            }
-
-            @Override
-            public @NotNull InventoryPosition getPosition() {
-                return placeablePositions.get(iteration);
-            }
-        };
+        return new PageButton(iteration, getPageValues().get(iteration), placeablePositions.get(iteration));
     }
 
     /**
@@ -361,25 +661,149 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
      * @return Returns a new {@link Button}.
      */
     private @NotNull Button<T> makeButtonCalculated(int iteration) {
-        final V obj = getPageValues().get(iteration);
-        return new Button<>() {
-            @Override
-            public ItemCreator createItem() {
-                return convertToStack(obj);
-            }
+        final int row = iteration / 9;
+        final int column = iteration % 9;
+        return new PageButton(iteration, getPageValues().get(iteration), InventoryPosition.of(row, column));
+    }
 
-            @Override
-            public void onClicked(final T user, final Menu<T> menu, final ClickType click) {
-                onClickPageItem(user, obj, click);
-            }
+    /**
+     * Renders a value into the stack displayed for it, using the prefetched stack or the {@link #setStackCacheSize(int) stack cache} if available.
+     *
+     * @param index  The index of the value in the viewed page.
+     * @param object The value.
+     * @return The rendered {@link ItemStack}, {@code null} if {@link #convertToStack(Object)} returned {@code null}.
+     */
+    private @Nullable ItemStack renderValue(final int index, final V object) {
+        if (this.pageStacks != null && index < this.pageStacks.size() && this.pageStacks.get(index) != null) {
+            return this.pageStacks.get(index);
+        }
+
+        if (object == null) {
+            final ItemCreator creator = convertToStack(null);
+            return creator == null ? null : creator.make();
+        }
+
+        final long version = versionOf(object);
+        final ItemStack cached = stackCache.get(object, version);
+        if (cached != null) return cached;
+
+        final ItemCreator creator = convertToStack(object);
+        if (creator == null) return null;
+
+        final ItemStack stack = creator.make();
+        stackCache.put(object, version, stack);
+        return stack;
+    }
+
+    /**
+     * The version of a value, used to tell if a cached stack for the value is stale.
+     * <p>
+     * Values that change in place should override this to return a stamp that changes whenever the rendered item would,
+     * otherwise the value must be {@link #invalidate(Object) invalidated} after it changes.
+     *
+     * @param object The value.
+     * @return The version of the value, by default always {@code 0}.
+     */
+    public long versionOf(final V object) {
+        return 0L;
+    }
+
+    /**
+     * Sets the number of rendered stacks cached by this menu, caching is disabled by default.
+     * <p>
+     * When enabled, navigating back to a page reuses the stacks rendered by {@link #convertToStack(Object)} instead of rendering every value again.
+     *
+     * @param size The maximum number of cached stacks, {@code 0} to disable the cache.
+     */
+    public final void setStackCacheSize(final int size) {
+        this.stackCache.setCapacity(size);
+    }
+
+    /**
+     * Get the number of rendered stacks cached by this menu.
+     *
+     * @return The maximum number of cached stacks, {@code 0} if the cache is disabled.
+     */
+    public final int getStackCacheSize() {
+        return this.stackCache.getCapacity();
+    }
+
+    /**
+     * Removes the cached stack for a value, forcing it to be rendered again the next time it is drawn.
+     *
+     * @param object The value.
+     */
+    public final void invalidate(final @NotNull V object) {
+        this.stackCache.invalidate(object);
+        this.pageStacks = null;
+        cancelPrefetch();
+    }
+
+    /**
+     * Removes all cached stacks.
+     */
+    public final void invalidateAll() {
+        this.stackCache.invalidateAll();
+        this.pageStacks = null;
+        cancelPrefetch();
+    }
+
+    /**
+     * A page rendered in the background.
+     *
+     * @param values The values of the page.
+     * @param stacks The rendered stacks of the values, by index.
+     * @param <V>    The type of value.
+     */
+    private record Prefetched<V>(List<V> values, List<ItemStack> stacks) {
+    }
+
+    /**
+     * A button displaying a single page value.
+     */
+    private final class PageButton extends Button<T> implements AlternativeDisplayItem {
+
+        /**
+         * The index of the value in the viewed page.
+         */
+        private final int index;
+
+        /**
+         * The value displayed by this button.
+         */
+        private final V object;
+
+        /**
+         * The position of this button.
+         */
+        private final InventoryPosition position;
+
+        private PageButton(final int index, final V object, final InventoryPosition position) {
+            this.index = index;
+            this.object = object;
+            this.position = position;
+        }
+
+        @Override
+        public ItemCreator createItem() {
+            return convertToStack(object);
+        }
+
+        @Override
+        public ItemStack displayItem() {
+            return renderValue(index, object);
+        }
+
+        @Override
+        public void onClicked(final T user, final Menu<T> menu, final ClickType click) {
+            onClickPageItem(user, object, click);
+        }
+
+        @Override
+        public @NotNull InventoryPosition getPosition() {
+            return position;
+        }
 
-            @Override
-            public @NotNull InventoryPosition getPosition() {
-                final int row = iteration / 9;
-                final int column = iteration % 9;
-                return InventoryPosition.of(row, column);
-            }
-        };
     }
 
     /**
@@ -403,7 +827,7 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
             // Are we hiding navigation?
             // If we are, check if we have more than 1 page.
             if (hideNav) {
-                if (this.paginator.getPages().size() > 1) {
+                if (getTotalPages() > 1) {
                     registerPageButtons(getCounterButton().build());
                 }
             } else {
@@ -416,7 +840,7 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
         if (hideNav) {
             // Check if we can go to the next or previous pages and ensure the button isn't null.
             // Then register the button.
-            final boolean hasNext = page < this.paginator.getPages().size();
+            final boolean hasNext = page < getTotalPages();
             if (hasNext && getNextButton() != null) {
                 registerPageButtons(getNextButton().build());
             }
@@ -532,7 +956,8 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
      * @return The number of pages.
      */
     public final int getTotalPages() {
-        return this.paginator.getPages().size();
+        final int usable = getUsableFromSize(getSize());
+        return Math.max(1, (source.count() + usable - 1) / usable);
     }
 
     /**
@@ -546,16 +971,16 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
         return NavigationButton.<T>builder()
                 .material(Material.NAME_TAG)
                 .name(getCounterString())
-                .lore(this.paginator.getPages().size() > 1 ? List.of("Click me to be sent back to the first page.", "Or right click to be sent to the last page!") : List.of())
+                .lore(getTotalPages() > 1 ? List.of("Click me to be sent back to the first page.", "Or right click to be sent to the last page!") : List.of())
                 .runnable((user, menu, type) -> {
                     if (type == ClickType.RIGHT) {
-                        this.page = Math.max(this.paginator.getPages().size(), 1);
-                        refresh();
+                        this.page = Math.max(getTotalPages(), 1);
+                        navigate();
                         return;
                     }
 
                     this.page = 1;
-                    refresh();
+                    navigate();
                 })
                 .position(InventoryPosition.of(rows() - 1, 4));
     }
@@ -572,10 +997,10 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
                 .material(Material.ARROW)
                 .name("<yellow>Next >")
                 .runnable((user, menu, type) -> {
-                    final boolean canGo = page < this.paginator.getPages().size();
+                    final boolean canGo = page < getTotalPages();
                     if (canGo) {
-                        this.page = Utils.range(page + 1, 1, this.paginator.getPages().size());
-                        refresh();
+                        this.page = Utils.range(page + 1, 1, getTotalPages());
+                        navigate();
                     } else {
                         menu.holder().tell("<red>You cannot go forward any further!");
                     }
@@ -597,8 +1022,8 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
                 .runnable((user, menu, type) -> {
                     final boolean canGo = page > 1;
                     if (canGo) {
-                        this.page = Utils.range(page - 1, 1, this.paginator.getPages().size());
-                        refresh();
+                        this.page = Utils.range(page - 1, 1, getTotalPages());
+                        navigate();
                     } else {
                         menu.holder().tell("<red>You cannot go backwards any further!");
                     }
@@ -649,8 +1074,7 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
      * @param objects The list of objects to re-populate the menu with.
      */
     public final void reInit(final Collection<V> objects) {
-        this.paginator.getValues().clear();
-        this.paginator.getValues().addAll(objects);
+        updateValues(objects);
         this.page = 1;
         refresh();
     }
@@ -662,57 +1086,200 @@ public abstract class PaginatedMenu<T extends MenuHolder, V> extends StandardMen
      * @param delay   How long before re-init.
      */
     public final void reInit(Collection<V> objects, long delay) {
-        Bukkit.getScheduler().runTaskLater(Utils.getInstance(), () -> reInit(objects), delay);
+        final Player player = holder() == null ? null : holder().player();
+        if (player == null) {
+            Schedulers.get().runLater(() -> reInit(objects), delay);
+        } else {
+            Schedulers.get().runLater(player, () -> reInit(objects), delay);
+        }
     }
 
     /**
-     * Adds a value to the {@link MenuPaginator} values and refreshes the menu.
+     * Adds a value to the end of the {@link ListPageSource} values.
+     * <p>
+     * The viewed page is only redrawn if the value is added to it, or if the number of pages changed.
      *
      * @param val The value to add.
+     * @throws UnsupportedOperationException If this menu isn't backed by a {@link ListPageSource}.
      */
     public final void addValue(final V val) {
-        this.paginator.getValues().add(val);
-        this.paginator.recalculate();
-        refresh();
+        final int previousTotal = getTotalPages();
+        valuesChanged(listSource().add(val), true, previousTotal);
+    }
+
+    /**
+     * Inserts a value into the {@link ListPageSource} values.
+     * <p>
+     * The viewed page is only redrawn if the value is inserted on or before it, or if the number of pages changed.
+     *
+     * @param index The index to insert the value at.
+     * @param val   The value to add.
+     * @throws UnsupportedOperationException If this menu isn't backed by a {@link ListPageSource}.
+     */
+    public final void addValue(final int index, final V val) {
+        final int previousTotal = getTotalPages();
+        listSource().add(index, val);
+        valuesChanged(index, true, previousTotal);
     }
 
     /**
-     * Removes a value from the {@link MenuPaginator} values and refreshed the menu.
+     * Removes a value from the {@link ListPageSource} values.
+     * <p>
+     * The viewed page is only redrawn if the value was removed from or before it, or if the number of pages changed.
      *
      * @param val The value to remove.
+     * @throws UnsupportedOperationException If this menu isn't backed by a {@link ListPageSource}.
      */
     public final void removeValue(final V val) {
-        this.paginator.getValues().remove(val);
-        this.paginator.recalculate();
+        final int index = listSource().indexOf(val);
+        if (index == -1) return;
+
+        // The removed instance may only be equal to the value, its cached stack is the one dropped.
+        removeValueAt(index);
+    }
+
+    /**
+     * Removes the value at an index from the {@link ListPageSource} values, without searching for it.
+     * <p>
+     * The viewed page is only redrawn if the value was removed from or before it, or if the number of pages changed.
+     *
+     * @param index The index of the value to remove.
+     * @return The removed value.
+     * @throws UnsupportedOperationException If this menu isn't backed by a {@link ListPageSource}.
+     * @throws IndexOutOfBoundsException     If the index is out of range.
+     */
+    public final V removeValueAt(final int index) {
+        final int previousTotal = getTotalPages();
+        final V removed = listSource().removeAt(index);
+        if (removed != null) invalidate(removed);
+
+        valuesChanged(index, true, previousTotal);
+        return removed;
+    }
+
+    /**
+     * Replaces a value in the {@link ListPageSource} values.
+     * <p>
+     * The viewed page is only redrawn if the value is shown on it.
+     *
+     * @param index The index of the value to replace.
+     * @param val   The new value.
+     * @throws UnsupportedOperationException If this menu isn't backed by a {@link ListPageSource}.
+     */
+    public final void updateValue(final int index, final V val) {
+        final V previous = listSource().set(index, val);
+        if (previous != null) invalidate(previous);
+        if (val != null) invalidate(val);
+
+        valuesChanged(index, false, getTotalPages());
+    }
+
+    /**
+     * Redraws a value that was changed in place.
+     * <p>
+     * The viewed page is only redrawn if the value is shown on it.
+     *
+     * @param val The changed value.
+     * @throws UnsupportedOperationException If this menu isn't backed by a {@link ListPageSource}.
+     */
+    public final void updateValue(final V val) {
+        final int index = listSource().indexOf(val);
+        if (index == -1) return;
+
+        if (val != null) invalidate(val);
+        valuesChanged(index, false, getTotalPages());
+    }
+
+    /**
+     * Redraws the viewed page only if a change to the values affected it.
+     *
+     * @param index         The index that was changed.
+     * @param shifted       Whether the values after the index were shifted, i.e. a value was added or removed.
+     * @param previousTotal The total number of pages before the change.
+     */
+    private void valuesChanged(final int index, final boolean shifted, final int previousTotal) {
+        final int usable = getUsableFromSize(getSize());
+        final int total = getTotalPages();
 
-        // If we remove the last entry in the viewed page, revert to page 1.
-        while (this.paginator.getPages().size() < this.page) {
-            this.page--;
+        // If we removed the last entry in the viewed page, move back to the new last page.
+        if (this.page > total) {
+            this.page = total;
+            invalidatePage();
+            redrawPage();
+            return;
         }
 
-        refresh();
+        final int first = (this.page - 1) * usable;
+        final int last = first + usable;
+        // A shift moves every value after the index, a replacement only changes the index itself.
+        final boolean visible = shifted ? index < last : index >= first && index < last;
+
+        if (visible) {
+            invalidatePage();
+            redrawPage();
+            return;
+        }
+
+        // The prefetched neighbour holding the change, and every page after it if the values were shifted, is stale.
+        final int changed = index / usable + 1;
+        if (shifted ? changed <= this.page + 1 : Math.abs(changed - this.page) == 1) {
+            cancelPrefetch();
+            if (total == previousTotal && !loading) prefetchNeighbours();
+        }
+
+        if (total != previousTotal) {
+            // Only the navigation changed, the fetched values of the page are reused.
+            redrawPage();
+        }
+    }
+
+    /**
+     * Redraws the viewed page and its navigation without refreshing the rest of the menu.
+     */
+    private void redrawPage() {
+        metrics().redraw();
+        invalidatePermissions();
+        clearPage();
+        forceDrawPage();
     }
 
     /**
      * Returns an unmodifiable list of all values that are being paginated by this menu.
      *
-     * @return Returns an unmodifiable copy of {@link MenuPaginator#getValues()}.
+     * @return Returns an unmodifiable copy of {@link ListPageSource#values()}.
+     * @throws UnsupportedOperationException If this menu isn't backed by a {@link ListPageSource}.
      */
     public final @NotNull @Unmodifiable List<V> getValues() {
-        return List.copyOf(this.paginator.getValues());
+        return listSource().values();
+    }
+
+    /**
+     * Get the {@link ListPageSource} backing this menu.
+     *
+     * @return The source.
+     * @throws UnsupportedOperationException If this menu isn't backed by a {@link ListPageSource}.
+     */
+    private @NotNull ListPageSource<V> listSource() {
+        if (this.source instanceof final ListPageSource<V> listSource) {
+            return listSource;
+        }
+
+        throw new UnsupportedOperationException("Menu " + getClass().getSimpleName() + " is not backed by a ListPageSource.");
     }
 
     /**
      * Get the current pages values.
+     * <p>
+     * This is empty while the page is {@link #isLoading() loading}.
      *
      * @return The list of objects.
      */
     @NotNull
     @Unmodifiable
     public final List<V> getPageValues() {
-        if (this.page == 0 || this.paginator.getPages().isEmpty()) return Collections.emptyList();
-        org.apache.commons.lang3.Validate.isTrue(this.paginator.getPages().containsKey(this.page - 1), "Menu " + this.getClass().getSimpleName() + " does not contain page #" + (this.page - 1));
+        if (this.page == 0) return Collections.emptyList();
 
-        return Collections.unmodifiableList(this.paginator.getPages().get(this.page - 1));
+        ensurePage();
+        return this.pageValues;
     }
 }
@@ -0,0 +1,228 @@
+package com.itsschatten.yggdrasil.menus.types;
+
+import com.itsschatten.yggdrasil.StringUtil;
+import com.itsschatten.yggdrasil.menus.Menu;
+import com.itsschatten.yggdrasil.menus.utils.InventoryPosition;
+import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A menu shown to many holders at once, rendering a single base layer for all of them.
+ * <p>
+ * Holders join the menu through {@link #open(MenuHolder)}, every update to the base layer is flushed once and seen by every viewer.
+ * Menus that declare {@link #getOverlayPositions() overlay positions} give every viewer a private copy of the base layer,
+ * on which their {@link #overlay(MenuHolder, InventoryPosition) overlay} items are drawn, base updates are fanned out to every copy
+ * except where an overlay item is shown.
+ * <p>
+ * The base layer is drawn for the {@link #holder() primary holder}, which is the first viewer still viewing the menu,
+ * buttons that require a permission are drawn according to that holder's permissions.
+ * Clicking an overlay item is handled as a click on the base button in that slot.
+ *
+ * @param <T> The holder type.
+ */
+public abstract class SharedMenu<T extends MenuHolder> extends StandardMenu<T> {
+
+    /**
+     * Every viewer of this menu, by their unique id, in join order.
+     */
+    private final Map<UUID, Session<T>> sessions = new LinkedHashMap<>();
+
+    /**
+     * Standard implementation of {@link SharedMenu}.
+     *
+     * @param parent The parent (or previous) {@link Menu}.
+     * @param title  The title of this menu.
+     * @param size   The size of this menu.
+     */
+    public SharedMenu(@Nullable final Menu<T> parent, String title, int size) {
+        super(parent, title, size);
+    }
+
+    /**
+     * Opens this menu for a holder, the first holder to open the menu displays it.
+     *
+     * @param user The holder joining this menu.
+     */
+    public final void open(final @NotNull T user) {
+        final UUID id = user.player().getUniqueId();
+        final boolean first = sessions.isEmpty();
+
+        if (!sessions.containsKey(id)) {
+            final Collection<InventoryPosition> overlays = getOverlayPositions();
+            final Inventory inventory = overlays.isEmpty() ? null : Bukkit.createInventory(this, getSize(), StringUtil.color(getTitle()));
+            sessions.put(id, new Session<>(user, inventory, new ItemStack[getSize()]));
+        }
+
+        if (first) {
+            displayTo(user);
+            return;
+        }
+
+        onOpen(user);
+        flush();
+        user.player().openInventory(inventoryFor(user));
+        user.updateMenu(this);
+        postDisplay(user);
+    }
+
+    /**
+     * Removes a holder from this menu, called when the holder closes the menu.
+     * <p>
+     * If the {@link #holder() primary holder} left, the next viewer becomes the primary holder.
+     *
+     * @param user The holder leaving this menu.
+     * @return {@code true} if other viewers are still viewing this menu.
+     */
+    @ApiStatus.Internal
+    public final boolean leave(final @NotNull T user) {
+        sessions.remove(user.player().getUniqueId());
+        if (sessions.isEmpty()) return false;
+
+        if (Objects.equals(holder(), user)) {
+            holder(sessions.values().iterator().next().viewer());
+        }
+
+        return true;
+    }
+
+    /**
+     * Get every holder viewing this menu.
+     *
+     * @return An unmodifiable list of viewers, in join order.
+     */
+    public final @NotNull @Unmodifiable List<T> sharedViewers() {
+        return sessions.values().stream().map(Session::viewer).toList();
+    }
+
+    /**
+     * The positions that may show a per-viewer item on top of the base layer.
+     * <p>
+     * If this is empty, every viewer is shown the same Bukkit inventory.
+     *
+     * @return The overlay positions, empty by default.
+     */
+    public @NotNull @Unmodifiable Collection<InventoryPosition> getOverlayPositions() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * The item shown to a viewer on top of the base layer.
+     *
+     * @param viewer   The viewer.
+     * @param position One of the {@link #getOverlayPositions() overlay positions}.
+     * @return The {@link ItemStack} to show, or {@code null} to show the base layer.
+     */
+    public @Nullable ItemStack overlay(final @NotNull T viewer, final @NotNull InventoryPosition position) {
+        return null;
+    }
+
+    /**
+     * Re-applies the overlay of a viewer, only slots whose overlay item changed are updated.
+     *
+     * @param viewer The viewer.
+     */
+    public final void updateOverlay(final @NotNull T viewer) {
+        final Session<T> session = sessions.get(viewer.player().getUniqueId());
+        if (session != null) {
+            applyOverlay(session);
+        }
+    }
+
+    /**
+     * Re-applies the overlay of every viewer.
+     */
+    public final void updateOverlays() {
+        sessions.values().forEach(this::applyOverlay);
+    }
+
+    /**
+     * Diffs a viewer's overlay against what was last applied to their inventory.
+     *
+     * @param session The session of the viewer.
+     */
+    private void applyOverlay(final @NotNull Session<T> session) {
+        if (session.inventory() == null) return;
+
+        for (final InventoryPosition position : getOverlayPositions()) {
+            final int slot = position.getEffectiveSlot();
+            if (slot < 0 || slot >= getSize()) continue;
+
+            final ItemStack item = overlay(session.viewer(), position);
+            final ItemStack applied = session.applied()[slot];
+            if (Objects.equals(item, applied)) continue;
+
+            session.applied()[slot] = item;
+            // Without an overlay item the base layer shows through.
+            session.inventory().setItem(slot, item == null ? getInventory().getItem(slot) : item);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Viewers with a private inventory have it synchronized to the base layer and their overlay before it is opened.
+     */
+    @Override
+    protected @NotNull Inventory inventoryFor(final @NotNull T user) {
+        final Session<T> session = sessions.get(user.player().getUniqueId());
+        if (session == null || session.inventory() == null) {
+            return getInventory();
+        }
+
+        session.inventory().setContents(getInventory().getContents());
+        Arrays.fill(session.applied(), null);
+        applyOverlay(session);
+        return session.inventory();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull T holderFor(final @NotNull HumanEntity player) {
+        final Session<T> session = sessions.get(player.getUniqueId());
+        return session == null ? holder() : session.viewer();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Fans the base layer update out to every private inventory not showing an overlay item in the slot.
+     */
+    @Override
+    protected void slotFlushed(final int slot, final ItemStack stack) {
+        for (final Session<T> session : sessions.values()) {
+            if (session.inventory() == null || session.applied()[slot] != null) continue;
+
+            session.inventory().setItem(slot, stack);
+        }
+    }
+
+    /**
+     * A viewer of this menu.
+     *
+     * @param viewer    The viewer.
+     * @param inventory The private inventory of the viewer, {@code null} if the viewer is shown the base inventory.
+     * @param applied   The overlay items currently applied to the private inventory, by slot.
+     * @param <T>       The holder type.
+     */
+    private record Session<T extends MenuHolder>(T viewer, @Nullable Inventory inventory, ItemStack[] applied) {
+    }
+
+}
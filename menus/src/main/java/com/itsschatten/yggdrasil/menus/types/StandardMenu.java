@@ -7,10 +7,12 @@ import com.itsschatten.yggdrasil.menus.buttons.premade.InfoButton;
 import com.itsschatten.yggdrasil.menus.buttons.premade.ReturnButton;
 import com.itsschatten.yggdrasil.menus.utils.InventoryPosition;
 import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
+import com.itsschatten.yggdrasil.menus.utils.SlotMask;
 import lombok.Getter;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
@@ -62,19 +64,25 @@ public abstract class StandardMenu<T extends MenuHolder> extends Menu<T> {
     @Override
     @ApiStatus.Internal
     public boolean isSlotTakenByButton(InventoryPosition position) {
-        // We filter any buttons the player doesn't have permission to view, as those technically don't exist.
-        // Then we find any buttons that equal the provided position.
-        // In honesty, the permission check is kinda redundant, as there is no "weight"
-        // to button registering, instead just when the button is registered.
-        return buttons().stream()
-                .filter(button -> button.getPermission() == null || holder().hasPermission(button.getPermission()))
-                .anyMatch((button) -> button.getPosition().equals(position));
+        // Buttons the player doesn't have permission to view are ignored, as those technically don't exist.
+        return hasViewableButton(position);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return A {@link SlotMask} of the slots.
+     */
+    @Override
+    @ApiStatus.Internal
+    public @NotNull SlotMask getButtonSlots() {
+        return viewableButtonSlots();
     }
 
     // TODO: unfinalize?
     @Override
     public final Button<T> getButton(ItemStack stack, InventoryPosition position) {
-        return getButtonImpl(stack, position, buttons());
+        return getButtonImpl(stack, position);
     }
 
     /**
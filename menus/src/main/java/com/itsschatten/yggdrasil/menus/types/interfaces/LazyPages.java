@@ -0,0 +1,32 @@
+package com.itsschatten.yggdrasil.menus.types.interfaces;
+
+import com.itsschatten.yggdrasil.menus.types.LazyPageMenu;
+import com.itsschatten.yggdrasil.menus.types.PageMenu;
+import com.itsschatten.yggdrasil.menus.utils.MenuHolder;
+import com.itsschatten.yggdrasil.menus.utils.MenuPage;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Signifies a {@link PageMenu} makes its pages lazily, each page is made the first time it is viewed instead of all at once.
+ *
+ * @param <T> The holder of the menu.
+ * @see LazyPageMenu
+ */
+public interface LazyPages<T extends MenuHolder> {
+
+    /**
+     * The number of pages, called once until the pages are {@link PageMenu#invalidatePages() invalidated}.
+     *
+     * @return The number of pages.
+     */
+    int pageCount();
+
+    /**
+     * Makes a single page, called the first time the page is viewed.
+     *
+     * @param page The page number, starting at {@code 1}.
+     * @return The {@link MenuPage}.
+     */
+    @NotNull MenuPage<T> makePage(final int page);
+
+}
@@ -1,15 +1,38 @@
 package com.itsschatten.yggdrasil.menus.types.interfaces;
 
 import com.itsschatten.yggdrasil.menus.Menu;
+import com.itsschatten.yggdrasil.menus.utils.TickFrame;
+import com.itsschatten.yggdrasil.menus.utils.TickingManager;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Signifies a menu is tickable. A ticking {@link Menu} will be ticked every in-game tick.
+ * <p>
+ * Ticking happens in two phases, {@link #tick(TickFrame)} is called off the main thread and records slot changes to a {@link TickFrame},
+ * which the {@link TickingManager} later applies on the thread owning the viewer, the main thread when not on Folia.
  */
 public interface Ticking {
 
     /**
      * What should happen when we tick a menu.
+     * <p>
+     * This is called asynchronously, implementations must not touch the Bukkit inventory or world,
+     * instead record slot changes to the frame or queue main thread work with {@link TickFrame#runSync(Runnable)}.
+     * A menu is not ticked again until its previous frame has been applied.
+     *
+     * @param frame The frame to record slot changes to.
      */
-    void tick();
+    default void tick(final @NotNull TickFrame frame) {
+        tick();
+    }
+
+    /**
+     * What should happen when we tick a menu.
+     *
+     * @deprecated This is called asynchronously without a way to safely update the menu, use {@link #tick(TickFrame)}.
+     */
+    @Deprecated
+    default void tick() {
+    }
 
 }
@@ -0,0 +1,174 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import com.itsschatten.yggdrasil.items.ItemCreator;
+import com.itsschatten.yggdrasil.menus.buttons.FrameCycle;
+import com.itsschatten.yggdrasil.menus.buttons.SyncedButton;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * A global clock for animations shared by every menu, driven by the {@link TimingWheel}.
+ * <p>
+ * An {@link Animation} is defined once, usually as a constant, and used by every button showing it.
+ * Its frame is derived from the current tick of the wheel rather than from when a menu was opened,
+ * so every viewer sees the same frame at the same time.
+ * Each frame is computed at most once, by the first button that draws it, every other button reuses the computed stack.
+ *
+ * @see SyncedButton
+ */
+public final class AnimationClock {
+
+    private AnimationClock() {
+    }
+
+    /**
+     * Get the current frame number of an animation with the provided period.
+     *
+     * @param period The period of the animation, in ticks, values lower than {@code 1} are treated as {@code 1}.
+     * @return The number of frames since the wheel started.
+     */
+    public static long frameNumber(final long period) {
+        return TimingWheel.currentTick() / Math.max(1L, period);
+    }
+
+    /**
+     * Defines an animation generating its frames.
+     *
+     * @param period The ticks between frames, values lower than {@code 1} are treated as {@code 1}.
+     * @param frames The generator, given the frame number, must not depend on the viewer.
+     * @return A new {@link Animation}.
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull Animation animation(final long period, final @NotNull LongFunction<ItemCreator> frames) {
+        return new Animation(period, frames, null);
+    }
+
+    /**
+     * Defines an animation cycling through pre-built frames.
+     *
+     * @param period The ticks between frames, values lower than {@code 1} are treated as {@code 1}.
+     * @param frames The frames.
+     * @return A new {@link Animation}.
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull Animation animation(final long period, final @NotNull FrameCycle frames) {
+        return new Animation(period, (frame) -> frames.creator((int) (frame % frames.size())), frames);
+    }
+
+    /**
+     * An animation definition, shared by every button and menu showing it.
+     */
+    public static final class Animation {
+
+        /**
+         * The ticks between frames.
+         */
+        private final long period;
+
+        /**
+         * The generator of the frames.
+         */
+        private final LongFunction<ItemCreator> frames;
+
+        /**
+         * The pre-built frames, {@code null} if frames are generated.
+         */
+        private final FrameCycle cycle;
+
+        /**
+         * The last computed frame.
+         */
+        private volatile Frame current;
+
+        /**
+         * The number of frames computed.
+         */
+        private long computed;
+
+        private Animation(final long period, final @NotNull LongFunction<ItemCreator> frames, final FrameCycle cycle) {
+            this.period = Math.max(1L, period);
+            this.frames = frames;
+            this.cycle = cycle;
+        }
+
+        /**
+         * Get the ticks between frames.
+         *
+         * @return The period, in ticks.
+         */
+        public long period() {
+            return period;
+        }
+
+        /**
+         * Get the creator of the current frame.
+         *
+         * @return The {@link ItemCreator} of the current frame.
+         */
+        public @NotNull ItemCreator creator() {
+            return current().creator;
+        }
+
+        /**
+         * Get the stack of the current frame, computing it if no button has drawn this frame yet.
+         * <p>
+         * <b>The returned {@link ItemStack} is shared and must not be mutated.</b>
+         *
+         * @return The {@link ItemStack} of the current frame.
+         */
+        public @NotNull ItemStack stack() {
+            return current().stack;
+        }
+
+        /**
+         * Get the number of frames this animation has computed.
+         *
+         * @return The number of frames.
+         */
+        public long computed() {
+            return computed;
+        }
+
+        /**
+         * Get the current frame, computing it if it's out of date.
+         *
+         * @return The current {@link Frame}.
+         */
+        private @NotNull Frame current() {
+            final long number = frameNumber(period);
+
+            final Frame frame = current;
+            if (frame != null && frame.number == number) return frame;
+
+            final ItemCreator creator = Objects.requireNonNull(frames.apply(number), "An animation frame cannot be null.");
+            final Frame next = new Frame(number, creator, cycle != null ? cycle.frame((int) (number % cycle.size())) : creator.make());
+            current = next;
+            computed++;
+            return next;
+        }
+
+        @Override
+        public String toString() {
+            return "Animation{" +
+                    "period=" + period +
+                    ", computed=" + computed +
+                    '}';
+        }
+
+    }
+
+    /**
+     * A computed frame.
+     *
+     * @param number  The frame number.
+     * @param creator The creator of the frame.
+     * @param stack   The built frame.
+     */
+    private record Frame(long number, ItemCreator creator, ItemStack stack) {
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import com.itsschatten.yggdrasil.menus.Menu;
+import com.itsschatten.yggdrasil.menus.buttons.Button;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A per-slot lookup table of registered {@link Button buttons}, used to resolve a clicked button in constant time.
+ * <p>
+ * Each slot keeps the buttons registered to it in registration order; the last button in a slot is the one drawn last,
+ * and therefore the one visible to the holder (permission allowing).
+ *
+ * @param <T> The holder type of the {@link Menu} that owns this index.
+ * @see Menu#getButtonImpl(org.bukkit.inventory.ItemStack, InventoryPosition, ButtonIndex)
+ */
+@ApiStatus.Internal
+public final class ButtonIndex<T extends MenuHolder> {
+
+    /**
+     * The buttons registered to each slot, {@code null} if no button uses the slot.
+     */
+    private final List<Button<T>>[] slots;
+
+    /**
+     * The slots at least one button is registered to.
+     */
+    private long occupied;
+
+    /**
+     * Constructs a new index for an inventory of the provided size.
+     *
+     * @param size The size of the inventory.
+     */
+    @SuppressWarnings("unchecked")
+    public ButtonIndex(final int size) {
+        this.slots = (List<Button<T>>[]) new List[size];
+    }
+
+    /**
+     * Indexes a button to every slot it is drawn to.
+     * <p>
+     * Mirrors the drawing logic of a {@link Menu}: if the button provides {@link Button#getPositions() positions} those are used,
+     * otherwise the button's {@link Button#getPosition() position} is.
+     *
+     * @param button The button to index.
+     */
+    public void add(final @NotNull Button<T> button) {
+        final Collection<InventoryPosition> positions = button.getPositions();
+        if (positions != null && !positions.isEmpty()) {
+            for (final InventoryPosition position : positions) {
+                put(position, button);
+            }
+        } else {
+            put(button.getPosition(), button);
+        }
+    }
+
+    /**
+     * Indexes all provided buttons.
+     *
+     * @param buttons The buttons to index.
+     * @see #add(Button)
+     */
+    public void addAll(final @NotNull Collection<Button<T>> buttons) {
+        for (final Button<T> button : buttons) {
+            add(button);
+        }
+    }
+
+    /**
+     * Clears the index and re-indexes the provided buttons.
+     *
+     * @param buttons The buttons to index.
+     */
+    public void rebuild(final @NotNull Collection<Button<T>> buttons) {
+        clear();
+        addAll(buttons);
+    }
+
+    /**
+     * Removes all buttons from this index.
+     */
+    public void clear() {
+        Arrays.fill(slots, null);
+        occupied = 0L;
+    }
+
+    /**
+     * Get the slots at least one button is registered to, ignoring permissions.
+     *
+     * @return A {@link SlotMask} of the occupied slots.
+     */
+    public @NotNull SlotMask occupied() {
+        return new SlotMask(occupied);
+    }
+
+    /**
+     * Checks if at least one button is registered to a slot, without allocating.
+     *
+     * @param slot The effective slot.
+     * @return {@code true} if a button is registered to the slot.
+     */
+    public boolean isOccupied(final int slot) {
+        return slot >= 0 && slot < SlotMask.SLOTS && (occupied & (1L << slot)) != 0L;
+    }
+
+    /**
+     * Get all buttons registered to a slot, in registration order.
+     *
+     * @param slot The effective slot.
+     * @return An unmodifiable list of buttons, empty if none are registered or the slot is out of range.
+     */
+    public @NotNull @Unmodifiable List<Button<T>> get(final int slot) {
+        if (slot < 0 || slot >= slots.length || slots[slot] == null) {
+            return Collections.emptyList();
+        }
+
+        return Collections.unmodifiableList(slots[slot]);
+    }
+
+    /**
+     * Get all buttons registered to a position, in registration order.
+     *
+     * @param position The position.
+     * @return An unmodifiable list of buttons, empty if none are registered.
+     * @see #get(int)
+     */
+    public @NotNull @Unmodifiable List<Button<T>> get(final @NotNull InventoryPosition position) {
+        return get(position.getEffectiveSlot());
+    }
+
+    /**
+     * Adds a button to the slot of the provided position, ignoring duplicates and out of range positions.
+     *
+     * @param position The position.
+     * @param button   The button.
+     */
+    private void put(final InventoryPosition position, final Button<T> button) {
+        if (position == null) return;
+
+        final int slot = position.getEffectiveSlot();
+        if (slot < 0 || slot >= slots.length) return;
+
+        List<Button<T>> list = slots[slot];
+        if (list == null) {
+            list = new ArrayList<>(1);
+            slots[slot] = list;
+            if (slot < SlotMask.SLOTS) occupied |= 1L << slot;
+        } else if (list.contains(button)) {
+            return;
+        }
+
+        list.add(button);
+    }
+
+}
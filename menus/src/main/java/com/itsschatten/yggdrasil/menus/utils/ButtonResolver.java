@@ -0,0 +1,30 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import com.itsschatten.yggdrasil.menus.Menu;
+import com.itsschatten.yggdrasil.menus.buttons.Button;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Resolves the {@link Button} clicked in a menu.
+ * <p>
+ * A {@link Menu} resolves clicks by asking every registered resolver in order, the first non-null button is used.
+ *
+ * @param <T> The holder type.
+ * @see Menu#registerResolver(ButtonResolver)
+ */
+@FunctionalInterface
+public interface ButtonResolver<T extends MenuHolder> {
+
+    /**
+     * Resolves the button clicked.
+     *
+     * @param stack    The clicked {@link ItemStack}.
+     * @param position The clicked position.
+     * @return The clicked {@link Button}, or {@code null} if this resolver has no button for the click.
+     */
+    @Nullable
+    Button<T> resolve(final ItemStack stack, final @NotNull InventoryPosition position);
+
+}
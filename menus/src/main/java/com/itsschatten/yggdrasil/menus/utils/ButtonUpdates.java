@@ -0,0 +1,114 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import com.itsschatten.yggdrasil.Utils;
+import com.itsschatten.yggdrasil.menus.Menu;
+import com.itsschatten.yggdrasil.menus.buttons.DynamicButton;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Drains the queued {@link DynamicButton} updates of every menu once per tick, in a single pass on the {@link TimingWheel}.
+ * <p>
+ * Menus keep their own queue of dirty buttons, see {@link Menu#queueUpdate(DynamicButton)},
+ * this class only tracks which menus have a non-empty queue.
+ * Each queue is drained on the thread owning the menu's viewer, the main thread when not on Folia.
+ * The drain callback is paused while no menu has queued updates.
+ * <p>
+ * Menus are marked and unmarked from the thread owning their viewer, the same thread their queue is drained on.
+ */
+public final class ButtonUpdates {
+
+    /**
+     * Menus with queued updates.
+     */
+    private static final Set<Menu<? extends MenuHolder>> DIRTY = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Menus whose drain has been handed to the thread owning their viewer and hasn't run yet.
+     */
+    private static final Set<Menu<? extends MenuHolder>> DRAINING = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The callback draining every queue, {@code null} until the first update is queued.
+     */
+    private static TimingWheel.Entry entry;
+
+    private ButtonUpdates() {
+    }
+
+    /**
+     * Marks a menu as having queued updates, its queue is drained starting with the next tick.
+     *
+     * @param menu The menu.
+     */
+    @ApiStatus.Internal
+    public static void mark(final @NotNull Menu<? extends MenuHolder> menu) {
+        DIRTY.add(menu);
+        resume();
+    }
+
+    /**
+     * Stops tracking a menu, its queue is expected to have been cleared.
+     *
+     * @param menu The menu.
+     */
+    @ApiStatus.Internal
+    public static void unmark(final @NotNull Menu<? extends MenuHolder> menu) {
+        DIRTY.remove(menu);
+    }
+
+    /**
+     * Get the number of menus with queued updates.
+     *
+     * @return The number of menus.
+     */
+    public static int pending() {
+        return DIRTY.size();
+    }
+
+    /**
+     * Schedules, or resumes, the drain callback.
+     */
+    private static synchronized void resume() {
+        if (entry == null) {
+            entry = TimingWheel.schedule(1, ButtonUpdates::drain);
+        } else {
+            entry.resume();
+        }
+    }
+
+    /**
+     * Hands the queue of every dirty menu to the thread owning its viewer, menus with updates that aren't due yet stay dirty.
+     */
+    private static void drain() {
+        final long tick = TimingWheel.currentTick();
+
+        for (final Menu<? extends MenuHolder> menu : DIRTY) {
+            // The previous drain of this menu hasn't run yet.
+            if (!DRAINING.add(menu)) continue;
+
+            menu.executeForViewer(() -> {
+                try {
+                    if (!menu.applyUpdates(tick)) DIRTY.remove(menu);
+                } catch (final Exception ex) {
+                    Utils.logError(ex);
+                    DIRTY.remove(menu);
+                } finally {
+                    DRAINING.remove(menu);
+                }
+            }, () -> {
+                // The viewer left, the menu was closed with it.
+                DIRTY.remove(menu);
+                DRAINING.remove(menu);
+            });
+        }
+
+        if (DIRTY.isEmpty() && entry != null) {
+            entry.pause();
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import org.bukkit.event.inventory.InventoryAction;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * How a click in a menu is routed, depending on its {@link InventoryAction}.
+ * <p>
+ * Every action is classified once, when this class is loaded, clicks are then routed with a single table lookup.
+ */
+public enum ClickRoute {
+
+    /**
+     * A pickup, place, or clone action, handled by the clicked button or the menu if the click was in the menu,
+     * or by {@link com.itsschatten.yggdrasil.menus.Menu#onPlayerClick(MenuHolder, org.bukkit.event.inventory.InventoryClickEvent)} if it was in the player's inventory.
+     */
+    BUTTON,
+
+    /**
+     * A shift-click moving an item to the other inventory.
+     */
+    MOVE,
+
+    /**
+     * Any other action, only passed to the menu if the click was in the player's inventory.
+     */
+    OTHER;
+
+    /**
+     * The route of every action.
+     */
+    private static final Map<InventoryAction, ClickRoute> ROUTES = new EnumMap<>(InventoryAction.class);
+
+    static {
+        for (final InventoryAction action : InventoryAction.values()) {
+            final String name = action.name();
+            if (name.contains("PICKUP") || name.contains("PLACE") || action == InventoryAction.CLONE_STACK) {
+                ROUTES.put(action, BUTTON);
+            } else if (action == InventoryAction.MOVE_TO_OTHER_INVENTORY) {
+                ROUTES.put(action, MOVE);
+            } else {
+                ROUTES.put(action, OTHER);
+            }
+        }
+    }
+
+    /**
+     * Get the route of an action.
+     *
+     * @param action The action.
+     * @return The {@link ClickRoute} of the action.
+     */
+    public static @NotNull ClickRoute of(final @NotNull InventoryAction action) {
+        return ROUTES.getOrDefault(action, OTHER);
+    }
+
+}
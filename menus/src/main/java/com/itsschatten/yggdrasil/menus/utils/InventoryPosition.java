@@ -5,17 +5,58 @@ import com.itsschatten.yggdrasil.menus.types.PaginatedMenu;
 import org.jetbrains.annotations.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * Represents a position in a {@link MenuInventory}
+ * <p>
+ * Every position of a six row inventory is interned, {@link #of(int, int)} and {@link #fromSlot(int)} never allocate for them.
  *
  * @param row    The row of this position.
  * @param column The column of this position.
+ * @see SlotMask
  */
 public record InventoryPosition(@Range(from = 0, to = 5) int row, @Range(from = 0, to = 8) int column) {
 
+    /**
+     * Every position of a six row inventory, indexed by effective slot.
+     */
+    private static final InventoryPosition[] TABLE = new InventoryPosition[54];
+
+    /**
+     * Every row, as unmodifiable lists of interned positions.
+     */
+    private static final List<List<InventoryPosition>> ROWS;
+
+    /**
+     * Every column, as unmodifiable lists of interned positions.
+     */
+    private static final List<List<InventoryPosition>> COLUMNS;
+
+    static {
+        for (int slot = 0; slot < TABLE.length; slot++) {
+            TABLE[slot] = new InventoryPosition(slot / 9, slot % 9);
+        }
+
+        final List<List<InventoryPosition>> rows = new ArrayList<>(6);
+        for (int row = 0; row < 6; row++) {
+            rows.add(ImmutableList.copyOf(Arrays.copyOfRange(TABLE, row * 9, row * 9 + 9)));
+        }
+        ROWS = Collections.unmodifiableList(rows);
+
+        final List<List<InventoryPosition>> columns = new ArrayList<>(9);
+        for (int column = 0; column < 9; column++) {
+            final ImmutableList.Builder<InventoryPosition> builder = ImmutableList.builderWithExpectedSize(6);
+            for (int row = 0; row < 6; row++) {
+                builder.add(TABLE[row * 9 + column]);
+            }
+            columns.add(builder.build());
+        }
+        COLUMNS = Collections.unmodifiableList(columns);
+    }
+
     /**
      * List of all middle positions in an inventory, used to center a {@link PaginatedMenu}.
      */
@@ -40,15 +81,18 @@ public record InventoryPosition(@Range(from = 0, to = 5) int row, @Range(from =
     );
 
     /**
-     * Obtain a new {@link InventoryPosition} based on the provided row and column.
+     * Obtain an {@link InventoryPosition} based on the provided row and column.
      *
      * @param row    The row for this position.
      * @param column The column for this position.
-     * @return A new {@link InventoryPosition}
+     * @return The interned {@link InventoryPosition}, or a new one if the position is outside a six row inventory.
      */
-    @Contract("_, _ -> new")
     public static @NotNull InventoryPosition of(@Range(from = 0, to = 5) final int row, @Range(from = 0, to = 8) final int column) {
-        return new InventoryPosition(row, column);
+        if (row < 0 || row >= 6 || column < 0 || column >= 9) {
+            return new InventoryPosition(row, column);
+        }
+
+        return TABLE[row * 9 + column];
     }
 
     /**
@@ -58,6 +102,10 @@ public record InventoryPosition(@Range(from = 0, to = 5) int row, @Range(from =
      * @return A {@link List} of {@link InventoryPosition positions} of the provided row.
      */
     public static @NotNull @UnmodifiableView List<InventoryPosition> ofRow(@Range(from = 0, to = 5) final int row) {
+        if (row >= 0 && row < ROWS.size()) {
+            return ROWS.get(row);
+        }
+
         final List<InventoryPosition> toSend = new ArrayList<>();
 
         for (int i = 0; i < 9; i++) {
@@ -74,6 +122,10 @@ public record InventoryPosition(@Range(from = 0, to = 5) int row, @Range(from =
      * @return A {@link List} of {@link InventoryPosition positions} of the provided column.
      */
     public static @NotNull @UnmodifiableView List<InventoryPosition> ofColumn(@Range(from = 0, to = 8) final int column) {
+        if (column >= 0 && column < COLUMNS.size()) {
+            return COLUMNS.get(column);
+        }
+
         final List<InventoryPosition> toSend = new ArrayList<>();
 
         for (int i = 0; i < 6; i++) {
@@ -87,10 +139,13 @@ public record InventoryPosition(@Range(from = 0, to = 5) int row, @Range(from =
      * Create an inventory slot based on the slot number.
      *
      * @param slot A slot in the range of 0 → 53.
-     * @return Returns a new inventory position.
+     * @return Returns the interned inventory position.
      */
-    @Contract("_ -> new")
     public static @NotNull InventoryPosition fromSlot(@Range(from = 0, to = 53) int slot) {
+        if (slot >= 0 && slot < TABLE.length) {
+            return TABLE[slot];
+        }
+
         return fromAnySlot(slot);
     }
 
@@ -98,9 +153,8 @@ public record InventoryPosition(@Range(from = 0, to = 5) int row, @Range(from =
      * Create an inventory slot based on the slot number.
      *
      * @param slot A slot.
-     * @return Returns a new inventory position.
+     * @return Returns the inventory position, interned if the slot is in the range of 0 → 53.
      */
-    @Contract("_ -> new")
     public static @NotNull InventoryPosition fromAnySlot(int slot) {
         return InventoryPosition.of(slot / 9, slot % 9);
     }
@@ -122,4 +176,13 @@ public record InventoryPosition(@Range(from = 0, to = 5) int row, @Range(from =
         return (9 * row) + column;
     }
 
+    /**
+     * Get a {@link SlotMask} containing only this position.
+     *
+     * @return The mask, empty if this position is outside a six row inventory.
+     */
+    public @NotNull SlotMask mask() {
+        return SlotMask.of(this);
+    }
+
 }
@@ -0,0 +1,157 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies, bucketed by powers of two microseconds.
+ * <p>
+ * Bucket {@code 0} holds every latency below one microsecond, bucket {@code n} holds latencies below {@code 2^n} microseconds,
+ * the last bucket holds every latency that didn't fit in a previous bucket.
+ * Percentiles are reported as the upper bound of the bucket they fall into.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The number of buckets, the last bucket holds every latency of roughly a second or more.
+     */
+    public static final int BUCKETS = 22;
+
+    /**
+     * The number of samples in every bucket.
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /**
+     * The number of samples.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * The sum of all samples, in nanoseconds.
+     */
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * The largest sample, in nanoseconds.
+     */
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Records a sample.
+     *
+     * @param nanos The latency in nanoseconds.
+     */
+    public void record(final long nanos) {
+        final long micros = Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos));
+        // 0 us lands in bucket 0, [2^(n-1), 2^n) us lands in bucket n.
+        final int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Get the number of samples.
+     *
+     * @return The number of samples.
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Get the sum of all samples.
+     *
+     * @return The sum in nanoseconds.
+     */
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Get the mean of all samples.
+     *
+     * @return The mean in nanoseconds, {@code 0} if there are no samples.
+     */
+    public long meanNanos() {
+        final long count = count();
+        return count == 0 ? 0 : totalNanos() / count;
+    }
+
+    /**
+     * Get the largest sample.
+     *
+     * @return The largest sample in nanoseconds.
+     */
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Get an approximate percentile of all samples.
+     *
+     * @param percentile The percentile, between {@code 0} and {@code 100}.
+     * @return The upper bound of the bucket the percentile falls into in nanoseconds, {@code 0} if there are no samples.
+     */
+    public long percentileNanos(final double percentile) {
+        if (percentile < 0 || percentile > 100) throw new IllegalArgumentException("Percentile must be between 0 and 100, got " + percentile);
+
+        final long[] snapshot = snapshot();
+        long total = 0;
+        for (final long value : snapshot) total += value;
+        if (total == 0) return 0;
+
+        final long rank = Math.max(1L, (long) Math.ceil(total * (percentile / 100D)));
+        long seen = 0;
+        for (int bucket = 0; bucket < snapshot.length; bucket++) {
+            seen += snapshot[bucket];
+            if (seen >= rank) {
+                // The last bucket is unbounded, the largest sample is its best upper bound.
+                return bucket == BUCKETS - 1 ? maxNanos() : TimeUnit.MICROSECONDS.toNanos(1L << bucket);
+            }
+        }
+
+        return maxNanos();
+    }
+
+    /**
+     * Get a copy of the number of samples in every bucket.
+     *
+     * @return An array of {@link #BUCKETS} counts.
+     */
+    public long[] snapshot() {
+        final long[] snapshot = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            snapshot[bucket] = buckets.get(bucket);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Removes all samples.
+     */
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            buckets.set(bucket, 0);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+                "count=" + count() +
+                ", meanNanos=" + meanNanos() +
+                ", p99Nanos=" + percentileNanos(99) +
+                ", maxNanos=" + maxNanos() +
+                '}';
+    }
+
+}
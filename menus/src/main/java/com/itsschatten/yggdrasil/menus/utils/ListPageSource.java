@@ -0,0 +1,144 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link PageSource} backed by an in-memory list, pages are sliced out of the list when fetched.
+ * <p>
+ * Every mutation reports the index it affected, allowing a menu to work out if the viewed page changed.
+ *
+ * @param <V> The type of value.
+ */
+public final class ListPageSource<V> implements PageSource<V> {
+
+    /**
+     * The values of this source.
+     */
+    private final List<V> values;
+
+    /**
+     * Creates a source backed by a copy of the provided values.
+     *
+     * @param values The values.
+     */
+    public ListPageSource(final @NotNull Collection<V> values) {
+        this.values = new ArrayList<>(values);
+    }
+
+    @Override
+    public int count() {
+        return values.size();
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@Unmodifiable List<V>> fetch(final int offset, final int limit) {
+        return CompletableFuture.completedFuture(slice(offset, limit));
+    }
+
+    /**
+     * Copies a range of values out of this source.
+     *
+     * @param offset The index of the first value.
+     * @param limit  The maximum number of values.
+     * @return An unmodifiable copy of the range.
+     */
+    public @NotNull @Unmodifiable List<V> slice(final int offset, final int limit) {
+        final int from = Math.max(0, Math.min(offset, values.size()));
+        final int to = Math.min(values.size(), from + Math.max(0, limit));
+        return Collections.unmodifiableList(new ArrayList<>(values.subList(from, to)));
+    }
+
+    /**
+     * Replaces all values of this source.
+     *
+     * @param values The new values.
+     */
+    public void setAll(final @NotNull Collection<V> values) {
+        this.values.clear();
+        this.values.addAll(values);
+    }
+
+    /**
+     * Adds a value to the end of this source.
+     *
+     * @param value The value.
+     * @return The index the value was added at.
+     */
+    public int add(final V value) {
+        values.add(value);
+        return values.size() - 1;
+    }
+
+    /**
+     * Inserts a value into this source, shifting all values at and after the index.
+     *
+     * @param index The index to insert the value at.
+     * @param value The value.
+     */
+    public void add(final int index, final V value) {
+        values.add(index, value);
+    }
+
+    /**
+     * Removes the first occurrence of a value from this source.
+     *
+     * @param value The value.
+     * @return The index the value was removed from, {@code -1} if the value wasn't found.
+     */
+    public int remove(final V value) {
+        final int index = values.indexOf(value);
+        if (index != -1) {
+            values.remove(index);
+        }
+
+        return index;
+    }
+
+    /**
+     * Removes the value at an index, shifting all values after the index.
+     *
+     * @param index The index.
+     * @return The removed value.
+     */
+    public V removeAt(final int index) {
+        return values.remove(index);
+    }
+
+    /**
+     * Replaces the value at an index.
+     *
+     * @param index The index.
+     * @param value The new value.
+     * @return The previous value.
+     */
+    public V set(final int index, final V value) {
+        return values.set(index, value);
+    }
+
+    /**
+     * Get the index of the first occurrence of a value.
+     *
+     * @param value The value.
+     * @return The index, {@code -1} if the value wasn't found.
+     */
+    public int indexOf(final V value) {
+        return values.indexOf(value);
+    }
+
+    /**
+     * Get a copy of all values of this source.
+     *
+     * @return An unmodifiable copy of the values.
+     */
+    public @NotNull @Unmodifiable List<V> values() {
+        return Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+}
@@ -5,34 +5,44 @@ import com.itsschatten.yggdrasil.menus.Menu;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
-import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.metadata.MetadataValue;
 import org.bukkit.permissions.Permission;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.List;
 import java.util.Objects;
 
 /**
  * A holder for a {@link Menu}.
+ * <p>
+ * The menus of a holder are stored in the {@link MenuSession} of its player.
  */
 public class MenuHolder {
 
     /**
      * Constant to get a player's current menu.
+     *
+     * @deprecated Menus are no longer stored in metadata, use {@link #getCurrentMenu()}.
      */
+    @Deprecated
     public static final String CURRENT_TAG = "current_menu";
 
     /**
      * Constant to get a player's previous menu.
+     *
+     * @deprecated Menus are no longer stored in metadata, use {@link #getPreviousMenu()}.
      */
+    @Deprecated
     public static final String PREVIOUS_TAG = "previous_menu";
 
     /**
      * Constant to get a player's viewed menu.
+     *
+     * @deprecated Menus are no longer stored in metadata, use {@link #getViewedMenu()}.
      */
+    @Deprecated
     public static final String VIEWED_TAG = "viewed_menu";
 
     /**
@@ -59,17 +69,17 @@ public class MenuHolder {
      */
     @Contract(value = "_ -> new", pure = true)
     public static @NotNull MenuHolder wrap(final @NotNull Player player) {
-        final List<MetadataValue> value = player.getMetadata("menu_holder");
+        final MenuSession session = MenuSessions.get(player.getUniqueId());
+        final MenuHolder cached = session.holder();
 
-        if (value.isEmpty() || value.getFirst().value() == null) {
-            // Make a new holder and then set the value to the player.
+        if (cached == null) {
+            // Make a new holder and then cache it in the player's session.
             final MenuHolder holder = new MenuHolder(player);
-            player.setMetadata("menu_holder", new FixedMetadataValue(Utils.getInstance(), holder));
+            session.holder(holder);
             return holder;
         }
 
-        // Shouldn't be null at this point.
-        return (MenuHolder) Objects.requireNonNull(value.getFirst().value());
+        return cached;
     }
 
     /**
@@ -158,7 +168,8 @@ public class MenuHolder {
      */
     @Nullable
     public final Menu<? extends MenuHolder> getCurrentMenu() {
-        return obtainMenu(CURRENT_TAG);
+        final MenuSession session = findSession();
+        return session == null ? null : session.current();
     }
 
     /**
@@ -169,7 +180,20 @@ public class MenuHolder {
      */
     @Nullable
     public final Menu<? extends MenuHolder> getPreviousMenu() {
-        return obtainMenu(PREVIOUS_TAG);
+        final MenuSession session = findSession();
+        return session == null ? null : session.previous();
+    }
+
+    /**
+     * Previously active menus of this holder, bounded to {@link MenuSession#HISTORY_LIMIT} menus.
+     *
+     * @return An unmodifiable list of menus, the most recent first.
+     */
+    @NotNull
+    @Unmodifiable
+    public final List<Menu<? extends MenuHolder>> getMenuHistory() {
+        final MenuSession session = findSession();
+        return session == null ? List.of() : session.history();
     }
 
     /**
@@ -181,7 +205,8 @@ public class MenuHolder {
      */
     @Nullable
     public final Menu<? extends MenuHolder> getViewedMenu() {
-        return obtainMenu(VIEWED_TAG);
+        final MenuSession session = findSession();
+        return session == null ? null : session.viewed();
     }
 
     /**
@@ -191,7 +216,7 @@ public class MenuHolder {
      * @see MenuListeners
      */
     public final void setViewedMenu(Menu<? extends MenuHolder> menu) {
-        player().setMetadata(VIEWED_TAG, new FixedMetadataValue(Utils.getInstance(), menu));
+        session().viewed(menu);
     }
 
     /**
@@ -200,7 +225,8 @@ public class MenuHolder {
      * @see MenuListeners
      */
     public final void removeCurrentMenu() {
-        player().removeMetadata(CURRENT_TAG, Utils.getInstance());
+        final MenuSession session = findSession();
+        if (session != null) session.clearCurrent();
     }
 
     /**
@@ -209,7 +235,8 @@ public class MenuHolder {
      * @see MenuListeners
      */
     public final void removePreviousMenu() {
-        player().removeMetadata(PREVIOUS_TAG, Utils.getInstance());
+        final MenuSession session = findSession();
+        if (session != null) session.clearPrevious();
     }
 
     /**
@@ -218,7 +245,8 @@ public class MenuHolder {
      * @see MenuListeners
      */
     public final void removeViewedMenu() {
-        player().removeMetadata(VIEWED_TAG, Utils.getInstance());
+        final MenuSession session = findSession();
+        if (session != null) session.viewed(null);
     }
 
     /**
@@ -230,31 +258,25 @@ public class MenuHolder {
      * @see MenuListeners
      */
     public final void updateMenu(final Menu<? extends MenuHolder> menu) {
-        if (player().hasMetadata(CURRENT_TAG)) {
-            try {
-                player().setMetadata(PREVIOUS_TAG, new FixedMetadataValue(Utils.getInstance(), getCurrentMenu()));
-            } catch (ClassCastException ignored) {
-            }
-        }
+        session().update(menu);
+    }
 
-        player().setMetadata(CURRENT_TAG, new FixedMetadataValue(Utils.getInstance(), menu));
+    /**
+     * Get the {@link MenuSession} of this holder's player, creating it if it doesn't exist.
+     *
+     * @return The {@link MenuSession}.
+     */
+    public final @NotNull MenuSession session() {
+        return MenuSessions.get(player().getUniqueId());
     }
 
     /**
-     * Get the {@link Menu} based on the provided {@link String}.
+     * Get the {@link MenuSession} of this holder's player without creating it.
      *
-     * @param nbtTag The tag to search the metadata for.
-     * @return Returns a possibly {@code null} {@link Menu} instance.
+     * @return The {@link MenuSession}, {@code null} if the player has none.
      */
-    private @Nullable Menu<? extends MenuHolder> obtainMenu(final String nbtTag) {
-        if (player().hasMetadata(nbtTag)) {
-            try {
-                return (Menu<? extends MenuHolder>) player().getMetadata(nbtTag).getFirst().value();
-            } catch (ClassCastException ex) {
-                return null;
-            }
-        }
-        return null;
+    private @Nullable MenuSession findSession() {
+        return MenuSessions.find(player().getUniqueId());
     }
 
     /**
@@ -5,15 +5,22 @@ import com.itsschatten.yggdrasil.items.ItemCreator;
 import com.itsschatten.yggdrasil.menus.Menu;
 import com.itsschatten.yggdrasil.menus.buttons.Button;
 import com.itsschatten.yggdrasil.menus.buttons.interfaces.AlternativeDisplayItem;
+import com.itsschatten.yggdrasil.scheduler.Schedulers;
+import com.itsschatten.yggdrasil.scheduler.YggdrasilScheduler;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Represents a MenuInventory.
@@ -42,26 +49,69 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
     private final int columns = 9;
 
     /**
-     * The contents of this inventory.
+     * The contents of this inventory, indexed by effective slot.
+     */
+    private final ItemStack[] contents;
+
+    /**
+     * Bitmask of slots in {@link #contents} holding a non-empty {@link ItemStack}.
      */
-    private final ItemStack[][] contents;
+    private long occupied;
 
     /**
      * The actual {@link Inventory}.
      */
     private final Inventory bukkitInventory;
 
+    /**
+     * A copy of the last {@link ItemStack} pushed to each slot of the {@link #bukkitInventory}.
+     */
+    private final ItemStack[] shadow;
+
+    /**
+     * Bitmask of slots whose {@link #shadow} is known to match the {@link #bukkitInventory}.
+     */
+    private long synced;
+
+    /**
+     * Bitmask of slots that have changed since the last {@link #flush()}.
+     */
+    private long dirty;
+
+    /**
+     * If a {@link #flush()} has already been scheduled for the next tick.
+     */
+    private boolean flushScheduled;
+
     /**
      * The title of this inventory.
      */
     @Getter
     private final String title;
 
+    /**
+     * The metrics recorded for this inventory's class.
+     * --- GETTER ---
+     * Get the metrics recorded for this inventory's class, shared by every instance of the class.
+     *
+     * @return The {@link MenuMetrics.MenuStats} of this class.
+     */
+    @Getter
+    @Accessors(fluent = true)
+    private final MenuMetrics.MenuStats metrics = MenuMetrics.of(getClass());
+
     /**
      * The viewer of this inventory.
      */
     private T holder;
 
+    /**
+     * Permission results of the {@link #holder}, resolved once per render.
+     * <p>
+     * Only used for rendering, clicks always check the holder's live permissions.
+     */
+    private final Map<String, Boolean> permissions = new HashMap<>();
+
     /**
      * Constructs a new MenuInventory.
      *
@@ -71,7 +121,8 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
     public MenuInventory(int size, String title) {
         this.title = title;
         this.rows = size / 9;
-        this.contents = new ItemStack[size / 9][9];
+        this.contents = new ItemStack[size];
+        this.shadow = new ItemStack[size];
         this.bukkitInventory = Bukkit.createInventory(this, size, StringUtil.color(this.title));
     }
 
@@ -90,9 +141,41 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param holder The {@link T} to set.
      */
     public final void holder(@NotNull T holder) {
+        if (this.holder != holder) {
+            permissions.clear();
+        }
+
         this.holder = holder;
     }
 
+    /**
+     * Checks if the {@link #holder()} may view something, the result is memoized until the next render.
+     *
+     * @param permission The permission to check, {@code null} if no permission is required.
+     * @return {@code true} if the permission is {@code null} or the holder has the permission.
+     * @see #invalidatePermissions()
+     */
+    public final boolean canView(final @Nullable String permission) {
+        if (permission == null) return true;
+        if (holder == null) return false;
+
+        final Boolean cached = permissions.get(permission);
+        if (cached != null) return cached;
+
+        final boolean result = holder.hasPermission(permission);
+        permissions.put(permission, result);
+        return result;
+    }
+
+    /**
+     * Clears all memoized permission results, the next render checks the {@link #holder()}'s permissions again.
+     * <p>
+     * Called at the start of every render, and when the holder's permissions are recalculated.
+     */
+    public final void invalidatePermissions() {
+        permissions.clear();
+    }
+
     /**
      * Returns the size of the inventory.
      *
@@ -123,6 +206,32 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      */
     public abstract boolean isSlotTakenByButton(InventoryPosition position);
 
+    /**
+     * Get the slots taken by a {@link Button} the holder may view, these slots are skipped by {@link #set(SlotMask, ItemStack)}
+     * and the other bulk setters.
+     * <p>
+     * By default, every slot is checked with {@link #isSlotTakenByButton(InventoryPosition)},
+     * implementations should override this together with {@link #isSlotTakenByButton(InventoryPosition)}.
+     *
+     * @return A {@link SlotMask} of the slots.
+     */
+    public @NotNull SlotMask getButtonSlots() {
+        long bits = 0L;
+        for (int slot = 0; slot < contents.length; slot++) {
+            if (isSlotTakenByButton(InventoryPosition.fromSlot(slot))) bits |= 1L << slot;
+        }
+        return new SlotMask(bits);
+    }
+
+    /**
+     * Get the slots holding a non-empty {@link ItemStack}.
+     *
+     * @return A {@link SlotMask} of the slots.
+     */
+    public final @NotNull SlotMask getOccupiedSlots() {
+        return new SlotMask(occupied);
+    }
+
     /**
      * Utility method to check if an {@link InventoryPosition} is taken by any {@link ItemStack}.
      *
@@ -133,15 +242,9 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
         if (isSlotTakenByButton(position)) {
             return true;
         }
-        for (int row = 0; row < rows; row++) {
-            for (int column = 0; column < columns; column++) {
-                if (contents[row][column] != null && contents[row][column].getType() != Material.AIR) {
-                    if (position.equals(InventoryPosition.of(row, column))) return true;
-                }
-            }
-        }
 
-        return false;
+        final int slot = slotOf(position.row(), position.column());
+        return slot != -1 && (occupied & (1L << slot)) != 0L;
     }
 
     /**
@@ -151,7 +254,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      */
     public final void addItems(final ItemCreator @NotNull ... items) {
         for (final ItemCreator builder : items) {
-            addItem(builder.make());
+            addItem(builder.makeShared());
         }
     }
 
@@ -162,7 +265,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      */
     public final void addItems(final ItemCreator.ItemCreatorBuilder @NotNull ... items) {
         for (final ItemCreator.ItemCreatorBuilder builder : items) {
-            addItem(builder.build().make());
+            addItem(builder.build().makeShared());
         }
     }
 
@@ -172,7 +275,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param creator The stack we should use to fill the inventory.
      */
     public final void fill(final @NotNull ItemCreator creator) {
-        fill(creator.make());
+        fill(creator.makeShared());
     }
 
     /**
@@ -181,18 +284,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param stack The stack we should use to fill the inventory.
      */
     public final void fill(final ItemStack stack) {
-        for (int row = 0; row < rows; row++) {
-            for (int column = 0; column < columns; column++) {
-                final InventoryPosition pos = InventoryPosition.of(row, column);
-                if (!isSlotTakenByButton(pos)) {
-                    contents[row][column] = stack;
-
-                    if (holder != null) {
-                        updateInv(row, column, stack);
-                    }
-                }
-            }
-        }
+        set(SlotMask.ALL, stack);
     }
 
     /**
@@ -202,7 +294,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param creator The {@link ItemCreator item creator} we should use to fill the row.
      */
     public final void setRow(final int row, @NotNull final ItemCreator creator) {
-        setRow(row, creator.make());
+        setRow(row, creator.makeShared());
     }
 
     /**
@@ -212,7 +304,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param creator The {@link ItemCreator item creator} we should use to fill the row.
      */
     public final void setRow(final int row, @NotNull final ItemCreator.ItemCreatorBuilder creator) {
-        setRow(row, creator.build().make());
+        setRow(row, creator.build().makeShared());
     }
 
 
@@ -223,13 +315,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param stack The {@link ItemStack} we want to use
      */
     public final void setRow(final int row, final ItemStack stack) {
-        if (row >= contents.length) {
-            return;
-        }
-
-        for (int column = 0; column < 9; column++) {
-            set(row, column, stack);
-        }
+        set(SlotMask.row(row), stack);
     }
 
     /**
@@ -239,9 +325,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param stack  The {@link ItemStack} we want to use
      */
     public final void setColumn(final int column, final ItemStack stack) {
-        for (int row = 0; row < contents.length; row++) {
-            set(row, column, stack);
-        }
+        set(SlotMask.column(column), stack);
     }
 
     /**
@@ -251,7 +335,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param creator The {@link ItemCreator} we want to use to make an {@link ItemStack}
      */
     public final void setColumn(final int column, @NotNull final ItemCreator creator) {
-        setColumn(column, creator.make());
+        setColumn(column, creator.makeShared());
     }
 
     /**
@@ -261,7 +345,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param creator The {@link ItemCreator} we want to use to make an {@link ItemStack}
      */
     public final void setColumn(final int column, @NotNull final ItemCreator.ItemCreatorBuilder creator) {
-        setColumn(column, creator.build().make());
+        setColumn(column, creator.build().makeShared());
     }
 
     /**
@@ -279,7 +363,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param creator The {@link ItemCreator} we want to use
      */
     public final void setBorder(@NotNull final ItemCreator creator) {
-        setBorder(creator.make());
+        setBorder(creator.makeShared());
     }
 
     /**
@@ -288,7 +372,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param creator The {@link ItemCreator} we want to use
      */
     public final void setBorder(@NotNull final ItemCreator.ItemCreatorBuilder creator) {
-        setBorder(creator.build().make());
+        setBorder(creator.build().makeShared());
     }
 
 
@@ -302,17 +386,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param stack      The {@link ItemStack} we want to use
      */
     public final void setRectangle(final int fromRow, final int fromColumn, final int toRow, final int toColumn, final ItemStack stack) {
-        for (int row = fromRow; row <= toRow; row++) {
-            for (int column = fromColumn; column <= toColumn; column++) {
-                if (row != fromRow && row != toRow && column != fromColumn && column != toColumn) continue;
-
-                if (holder != null) {
-                    if (isSlotTakenByButton(InventoryPosition.of(row, column))) continue;
-                }
-
-                set(row, column, stack);
-            }
-        }
+        set(SlotMask.outline(fromRow, fromColumn, toRow, toColumn), stack);
     }
 
     /**
@@ -325,7 +399,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param builder    The {@link com.itsschatten.yggdrasil.items.ItemCreator.ItemCreatorBuilder} we want to use.
      */
     public final void setRectangle(final int fromRow, final int fromColumn, final int toRow, final int toColumn, final ItemCreator.@NotNull ItemCreatorBuilder builder) {
-        setRectangle(fromColumn, fromColumn, toRow, toColumn, builder.build().make());
+        setRectangle(fromRow, fromColumn, toRow, toColumn, builder.build().makeShared());
     }
 
     /**
@@ -338,7 +412,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param creator    The {@link com.itsschatten.yggdrasil.items.ItemCreator} we want to use.
      */
     public final void setRectangle(final int fromRow, final int fromColumn, final int toRow, final int toColumn, final @NotNull ItemCreator creator) {
-        setRectangle(fromRow, fromColumn, toRow, toColumn, creator.make());
+        setRectangle(fromRow, fromColumn, toRow, toColumn, creator.makeShared());
     }
 
     /**
@@ -347,20 +421,45 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param stack The {@link ItemStack} to add to the inventory.
      */
     public final void addItem(final ItemStack stack) {
-        boolean added = false;
-        for (int row = 0; row < contents.length; row++) {
-            if (added) return;
-            for (int column = 0; column < contents[row].length; column++) {
-                final ItemStack content = contents[row][column];
-                if (content == null) {
-                    contents[row][column] = stack;
-                    added = true;
-                    break;
-                }
-            }
+        final int slot = Long.numberOfTrailingZeros(~occupied);
+        if (slot >= contents.length) return;
+
+        write(slot, stack);
+    }
+
+    /**
+     * Set every slot of a mask to an {@link ItemStack}, skipping {@link #getButtonSlots() button slots}
+     * and slots outside this inventory.
+     * <p>
+     * Every slot is written, slots that end up unchanged are skipped when {@link #flush() flushing} against the viewer's inventory.
+     *
+     * @param mask  The slots to set.
+     * @param stack The {@link ItemStack}.
+     */
+    public final void set(final @NotNull SlotMask mask, final ItemStack stack) {
+        long pending = mask.bits() & SlotMask.ofSize(contents.length).bits();
+        if (pending == 0L) return;
+
+        pending &= ~getButtonSlots().bits();
+        while (pending != 0L) {
+            final int slot = Long.numberOfTrailingZeros(pending);
+            pending &= pending - 1;
+
+            write(slot, stack);
         }
     }
 
+    /**
+     * Set every slot of a mask to an {@link ItemStack}, skipping {@link #getButtonSlots() button slots}.
+     *
+     * @param mask    The slots to set.
+     * @param creator The {@link ItemCreator} to use to create the {@link ItemStack}.
+     * @see #set(SlotMask, ItemStack)
+     */
+    public final void set(final @NotNull SlotMask mask, final @NotNull ItemCreator creator) {
+        set(mask, creator.makeShared());
+    }
+
     /**
      * Display this inventory.
      *
@@ -368,14 +467,9 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      */
     @ApiStatus.Internal
     protected final void display(@NotNull final T user) {
-        for (int row = 0; row < contents.length; row++) {
-            for (int column = 0; column < contents[row].length; column++) {
-                if (contents[row][column] != null) setItem(columns * row + column, contents[row][column]);
-            }
-        }
-
         holder = user;
-        user.player().openInventory(bukkitInventory);
+        flush();
+        user.player().openInventory(inventoryFor(user));
     }
 
     /**
@@ -385,23 +479,99 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      */
     @ApiStatus.Internal
     protected final void show(@NotNull final T user) {
-        for (int row = 0; row < contents.length; row++) {
-            for (int column = 0; column < contents[row].length; column++) {
-                if (contents[row][column] != null) setItem(columns * row + column, contents[row][column]);
-            }
+        flush();
+        user.player().openInventory(inventoryFor(user));
+    }
+
+    /**
+     * Get the Bukkit {@link Inventory} opened for a user, by default always {@link #getInventory()}.
+     *
+     * @param user The user the inventory is being opened for.
+     * @return The {@link Inventory} to open.
+     */
+    @ApiStatus.Internal
+    protected @NotNull Inventory inventoryFor(@NotNull final T user) {
+        return bukkitInventory;
+    }
+
+    /**
+     * Get the {@link T} interacting with this inventory as the provided player, by default always the {@link #holder()}.
+     *
+     * @param player The player that interacted with this inventory.
+     * @return The {@link T} for the player.
+     */
+    @ApiStatus.Internal
+    public @NotNull T holderFor(@NotNull final HumanEntity player) {
+        return holder;
+    }
+
+    /**
+     * Called after a slot of the Bukkit {@link Inventory} was updated by a {@link #flush()}.
+     *
+     * @param slot  The slot updated.
+     * @param stack The new {@link ItemStack} in the slot.
+     */
+    @ApiStatus.Internal
+    protected void slotFlushed(final int slot, final ItemStack stack) {
+    }
+
+    /**
+     * Pushes all changed slots to the Bukkit {@link Inventory}.
+     * <p>
+     * Slots whose contents are identical to what was last pushed are skipped.
+     * This is called automatically once per tick after a slot has changed, and before the inventory is opened.
+     */
+    public final void flush() {
+        flushScheduled = false;
+
+        long pending = dirty;
+        dirty = 0L;
+
+        while (pending != 0L) {
+            final int slot = Long.numberOfTrailingZeros(pending);
+            pending &= pending - 1;
+
+            final ItemStack stack = contents[slot];
+            final long bit = 1L << slot;
+            if ((synced & bit) != 0L && isSame(shadow[slot], stack)) continue;
+
+            bukkitInventory.setItem(slot, stack);
+            shadow[slot] = isEmpty(stack) ? null : stack.clone();
+            synced |= bit;
+            slotFlushed(slot, stack);
         }
+    }
+
+    /**
+     * Marks the copy of the Bukkit inventory as unknown, forcing the next write to every slot to be pushed.
+     * <p>
+     * Called when the holder was allowed to alter the inventory themselves.
+     */
+    @ApiStatus.Internal
+    public final void invalidateShadow() {
+        synced = 0L;
+    }
 
-        user.player().openInventory(bukkitInventory);
+    /**
+     * Checks if two stacks would display the same in the inventory.
+     *
+     * @param pushed The stack that was pushed.
+     * @param stack  The new stack.
+     * @return {@code true} if both are empty or equal.
+     */
+    private static boolean isSame(final ItemStack pushed, final ItemStack stack) {
+        if (isEmpty(pushed)) return isEmpty(stack);
+        return !isEmpty(stack) && pushed.equals(stack);
     }
 
     /**
-     * Utility method to set an {@link ItemStack} into a Bukkit {@link Inventory}.
+     * Checks if a stack is empty.
      *
-     * @param position The position to set the item in.
-     * @param stack    The {@link ItemStack}
+     * @param stack The stack.
+     * @return {@code true} if the stack is {@code null} or air.
      */
-    private void setItem(final int position, final ItemStack stack) {
-        bukkitInventory.setItem(position, stack);
+    private static boolean isEmpty(final ItemStack stack) {
+        return stack == null || stack.getType().isAir();
     }
 
     /**
@@ -413,18 +583,10 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @see MenuInventory#forceSet(InventoryPosition, Button)
      */
     public final void forceSet(final int row, final int column, final ItemStack stack) {
-        if (row >= contents.length) {
-            return;
-        }
+        final int slot = slotOf(row, column);
+        if (slot == -1) return;
 
-        if (column >= contents[row].length) {
-            return;
-        }
-
-        if (column < 0) return;
-
-        contents[row][column] = stack;
-        updateInv(row, column, stack);
+        write(slot, stack);
     }
 
     /**
@@ -436,7 +598,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @see #forceSet(int, int, ItemCreator)
      */
     public final void forceSet(final int row, final int column, @NotNull final ItemCreator creator) {
-        forceSet(row, column, creator.make());
+        forceSet(row, column, creator.makeShared());
     }
 
     /**
@@ -448,7 +610,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @see #forceSet(int, int, ItemCreator)
      */
     public final void forceSet(final int row, final int column, @NotNull final ItemCreator.ItemCreatorBuilder creator) {
-        forceSet(row, column, creator.build().make());
+        forceSet(row, column, creator.build().makeShared());
     }
 
     /**
@@ -463,7 +625,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      */
     public final void forceSet(final int row, final int column, @NotNull final Button<T> button) {
         if (button.getPermission() != null)
-            forceSet(row, column, holder.hasPermission(button.getPermission()) ?
+            forceSet(row, column, canView(button.getPermission()) ?
                     button instanceof AlternativeDisplayItem alt ? alt.displayItem() : button.getItem()
                     : null);
         else
@@ -489,7 +651,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @see #forceSet(int, int, ItemCreator)
      */
     public final void forceSet(@NotNull final InventoryPosition position, @NotNull final ItemCreator creator) {
-        forceSet(position.row(), position.column(), creator.make());
+        forceSet(position.row(), position.column(), creator.makeShared());
     }
 
     /**
@@ -500,7 +662,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @see #forceSet(int, int, ItemCreator)
      */
     public final void forceSet(@NotNull final InventoryPosition position, @NotNull final ItemCreator.ItemCreatorBuilder creator) {
-        forceSet(position.row(), position.column(), creator.build().make());
+        forceSet(position.row(), position.column(), creator.build().makeShared());
     }
 
     /**
@@ -523,22 +685,14 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param stack  The {@link ItemStack}.
      */
     public final void set(final int row, final int column, final ItemStack stack) {
-        if (row >= contents.length) {
-            return;
-        }
-
-        if (column >= contents[row].length) {
-            return;
-        }
-
-        if (column < 0) return;
+        final int slot = slotOf(row, column);
+        if (slot == -1) return;
 
-        if (isSlotTakenByButton(InventoryPosition.of(row, column))) {
+        if (isSlotTakenByButton(InventoryPosition.fromSlot(slot))) {
             return;
         }
 
-        contents[row][column] = stack;
-        updateInv(row, column, stack);
+        write(slot, stack);
     }
 
     /**
@@ -549,7 +703,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param creator The {@link ItemCreator} to use to create the {@link ItemStack}.
      */
     public final void set(final int row, final int column, @NotNull final ItemCreator creator) {
-        set(row, column, creator.make());
+        set(row, column, creator.makeShared());
     }
 
     /**
@@ -560,7 +714,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @param creator The {@link ItemCreator} to use to create the {@link ItemStack}.
      */
     public final void set(final int row, final int column, @NotNull final ItemCreator.ItemCreatorBuilder creator) {
-        set(row, column, creator.build().make());
+        set(row, column, creator.build().makeShared());
     }
 
     /**
@@ -573,9 +727,12 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @see Button#getItem()
      */
     public final void set(final int row, final int column, @NotNull final Button<T> button) {
-        if (button.getPermission() != null)
-            set(row, column, holder.hasPermission(button.getPermission()) ? button.getItem() : null);
-        else set(row, column, button.getItem());
+        if (button.getPermission() != null && !canView(button.getPermission())) {
+            set(row, column, (ItemStack) null);
+            return;
+        }
+
+        set(row, column, button instanceof AlternativeDisplayItem alt ? alt.displayItem() : button.getItem());
     }
 
     /**
@@ -597,7 +754,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @see #set(int, int, ItemCreator)
      */
     public final void set(@NotNull final InventoryPosition position, @NotNull final ItemCreator creator) {
-        set(position.row(), position.column(), creator.make());
+        set(position.row(), position.column(), creator.makeShared());
     }
 
     /**
@@ -608,7 +765,7 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
      * @see #set(int, int, ItemCreator)
      */
     public final void set(@NotNull final InventoryPosition position, @NotNull final ItemCreator.ItemCreatorBuilder creator) {
-        set(position.row(), position.column(), creator.build().make());
+        set(position.row(), position.column(), creator.build().makeShared());
     }
 
     /**
@@ -624,18 +781,91 @@ public abstract class MenuInventory<T extends MenuHolder> implements InventoryHo
     }
 
     /**
-     * Utility method to update the inventory that belongs to this class.
+     * Get the effective slot of a row and column.
+     *
+     * @param row    The row.
+     * @param column The column.
+     * @return The slot, {@code -1} if the row or column is outside this inventory.
+     */
+    private int slotOf(final int row, final int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) return -1;
+        return row * columns + column;
+    }
+
+    /**
+     * Stores a stack in a slot and marks the slot as changed.
+     *
+     * @param slot  The effective slot.
+     * @param stack The stack, may be {@code null}.
+     */
+    private void write(final int slot, final ItemStack stack) {
+        contents[slot] = stack;
+        if (isEmpty(stack)) {
+            occupied &= ~(1L << slot);
+        } else {
+            occupied |= 1L << slot;
+        }
+
+        updateInv(slot);
+    }
+
+    /**
+     * Utility method to mark a slot as changed, the change is pushed to the inventory on the next {@link #flush()}.
      *
-     * @param row    The row we want to update.
-     * @param column The column that we want to update.
-     * @param stack  The {@link ItemStack} to update the slot with.
+     * @param slot The effective slot we want to update.
      */
-    private void updateInv(final int row, final int column, final ItemStack stack) {
-        if (holder == null) {
+    private void updateInv(final int slot) {
+        dirty |= 1L << slot;
+        metrics.slotWrite();
+
+        if (holder == null || flushScheduled) {
             return;
         }
 
-        bukkitInventory.setItem(columns * row + column, stack);
+        flushScheduled = true;
+        // Push from the thread owning the viewer, which is the main thread when not on Folia.
+        final Player player = holder.player();
+        if (player == null) {
+            Schedulers.get().run(this::flush);
+        } else {
+            // The viewer left, the next write schedules a new flush.
+            Schedulers.get().run(player, this::flush, () -> flushScheduled = false);
+        }
+    }
+
+    /**
+     * Runs a task on the thread owning the {@link #holder()}'s player, immediately if the current thread owns it.
+     * <p>
+     * Every change to this inventory that doesn't come from the viewer, such as animations and ticking, must go through this method,
+     * the inventory isn't thread safe and may only be changed by the thread owning its viewer.
+     * The task is dropped if the player leaves before it runs.
+     *
+     * @param task The task.
+     */
+    @ApiStatus.Internal
+    public final void executeForViewer(final @NotNull Runnable task) {
+        executeForViewer(task, null);
+    }
+
+    /**
+     * Runs a task on the thread owning the {@link #holder()}'s player, immediately if the current thread owns it.
+     *
+     * @param task    The task.
+     * @param retired The callback run instead of the task if the player leaves before it runs, {@code null} for none.
+     * @see #executeForViewer(Runnable)
+     */
+    @ApiStatus.Internal
+    public final void executeForViewer(final @NotNull Runnable task, final @Nullable Runnable retired) {
+        final YggdrasilScheduler scheduler = Schedulers.get();
+        final Player player = holder == null ? null : holder.player();
+
+        if (player != null) {
+            scheduler.execute(player, task, retired);
+        } else if (scheduler.isGlobalThread()) {
+            task.run();
+        } else {
+            scheduler.run(task);
+        }
     }
 
     /**
@@ -5,8 +5,7 @@ import com.itsschatten.yggdrasil.menus.Menu;
 import com.itsschatten.yggdrasil.menus.MenuUtils;
 import com.itsschatten.yggdrasil.menus.buttons.Button;
 import com.itsschatten.yggdrasil.menus.buttons.DynamicButton;
-import com.itsschatten.yggdrasil.menus.types.PageMenu;
-import com.itsschatten.yggdrasil.menus.types.PaginatedMenu;
+import com.itsschatten.yggdrasil.menus.types.SharedMenu;
 import com.itsschatten.yggdrasil.menus.types.interfaces.CheckDrag;
 import com.itsschatten.yggdrasil.menus.types.interfaces.NoDrag;
 import com.itsschatten.yggdrasil.menus.types.interfaces.Ticking;
@@ -17,6 +16,8 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.*;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerCommandSendEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
@@ -28,14 +29,48 @@ import org.jetbrains.annotations.NotNull;
 public final class MenuListeners implements Listener {
 
     /**
-     * Called when the player leaves the server, used to remove the metadata 'menu_holder'.
-     * Removed here because MenuHolder stores a player.
+     * Called when the player leaves the server, used to remove their {@link MenuSession}.
+     * Removed here because the session holds a MenuHolder which stores a player.
      *
      * @param event The event.
      */
-    @EventHandler
+    @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerLeave(final @NotNull PlayerQuitEvent event) {
-        event.getPlayer().removeMetadata("menu_holder", Utils.getInstance());
+        MenuSessions.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Called when the command tree is sent to a player, which also happens after a player's permissions are recalculated.
+     * Used to discard the permission results memoized by the player's menus.
+     *
+     * @param event The event.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onCommandsSent(final @NotNull PlayerCommandSendEvent event) {
+        invalidatePermissions(event.getPlayer());
+    }
+
+    /**
+     * Called when a player changes worlds, permissions may be granted per world.
+     *
+     * @param event The event.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(final @NotNull PlayerChangedWorldEvent event) {
+        invalidatePermissions(event.getPlayer());
+    }
+
+    /**
+     * Discards the permission results memoized by a player's current and viewed menus, they are checked again on the next render.
+     *
+     * @param player The player.
+     */
+    private void invalidatePermissions(final @NotNull Player player) {
+        final MenuSession session = MenuSessions.find(player.getUniqueId());
+        if (session == null) return;
+
+        if (session.current() != null) session.current().invalidatePermissions();
+        if (session.viewed() != null) session.viewed().invalidatePermissions();
     }
 
     /**
@@ -52,7 +87,7 @@ public final class MenuListeners implements Listener {
 
         if (event.getInventory().getHolder() instanceof MenuInventory<? extends MenuHolder> inventory) {
             // MenuHolder "cast", used to update their active and previous menu.
-            final T user = (T) inventory.holder();
+            final T user = (T) inventory.holderFor(event.getPlayer());
 
             if (user.getViewedMenu() != null) {
                 final Menu<T> viewedMenu = (Menu<T>) user.getViewedMenu();
@@ -64,6 +99,16 @@ public final class MenuListeners implements Listener {
             final Menu<T> menu = (Menu<T>) user.getCurrentMenu();
             // If their menu is not null.
             if (menu != null) {
+                // Shared menus are only torn down once their last viewer has left.
+                if (menu instanceof final SharedMenu<T> shared && shared.leave(user)) {
+                    if (menu.closeReason() == CloseReason.DEFAULT) {
+                        menu.onClose(user);
+                    } else if (menu.closeReason() == CloseReason.SWITCH) {
+                        menu.onSwitch(user);
+                    }
+                    return;
+                }
+
                 if (menu instanceof Ticking) {
                     TickingManager.cancel(menu);
                 }
@@ -108,16 +153,14 @@ public final class MenuListeners implements Listener {
 
         // Get the clicked inventory, either a proper menu or the player's inventory.
         final Inventory clickedInventory = event.getRawSlot() < 0 ? null : event.getRawSlot() < event.getView().getTopInventory().getSize() ? event.getView().getTopInventory() : event.getView().getBottomInventory();
-        // Get the action of the click.
-        final InventoryAction action = event.getAction();
+        // Get the route of the click's action.
+        final ClickRoute route = ClickRoute.of(event.getAction());
         // Where did this player click?
         final ClickLocation clickLocation = clickedInventory != null ? (clickedInventory.getType() == InventoryType.CHEST ? ClickLocation.MENU : ClickLocation.PLAYER) : ClickLocation.OUTSIDE;
 
-        final InventoryPosition position = InventoryPosition.fromSlot(event.getSlot());
-
         if (event.getInventory().getHolder() instanceof final MenuInventory<? extends MenuHolder> inv) {
             // Get the holder instance.
-            final T user = (T) inv.holder();
+            final T user = (T) inv.holderFor(event.getWhoClicked());
 
             if (user.getViewedMenu() != null) {
                 final Menu<T> viewedMenu = (Menu<T>) user.getViewedMenu();
@@ -162,137 +205,108 @@ public final class MenuListeners implements Listener {
                     }
                 }
 
-                // If the action was a PICKUP, PLACE, or CLONE action.
-                if (action.toString().contains("PICKUP") || action.toString().contains("PLACE") || action == InventoryAction.CLONE_STACK) {
-                    // Make sure the click location was a menu.
-                    if (clickLocation == ClickLocation.MENU) {
-                        // Attempt to handle buttons.
-                        try {
-                            // Attempt to find a registered button of the clicked ItemStack.
-                            final Button<T> button = menu.getButton(clicked, position);
-
-                            // If the button is not null, allow the button to handle the click,
-                            // if it is null, allow the menu to handle it.
-                            if (button != null) {
-                                button.onClicked(user, menu, event.getClick());
-
-                                if (button instanceof final DynamicButton<T> dynamicButton) {
-                                    dynamicButton.updateInner(user, menu);
-                                }
-                            } else if (menu instanceof final PaginatedMenu<T, ?> pagedMenu) {
-                                // Check if we are a paged men.
-                                final Button<T> pageButton = pagedMenu.getPageButton(clicked, position);
-                                if (pageButton != null) {
-                                    pageButton.onClicked(user, menu, event.getClick());
-
-                                    if (pageButton instanceof final DynamicButton<T> dynamicButton) {
-                                        dynamicButton.updateInner(user, menu);
-                                    }
-                                } else {
-                                    menu.onClick(user, position, event.getClick(), clicked);
-                                }
-                            } else if (menu instanceof final PageMenu<T> pageMenu) {
-                                final Button<T> pageButton = pageMenu.getPageButton(clicked, position);
-                                if (pageButton != null) {
-                                    pageButton.onClicked(user, menu, event.getClick());
-
-                                    if (pageButton instanceof final DynamicButton<T> dynamicButton) {
-                                        dynamicButton.updateInner(user, menu);
-                                    }
-                                } else {
-                                    menu.onClick(user, position, event.getClick(), clicked);
-                                }
-                            } else {
-                                menu.onClick(user, position, event.getClick(), clicked);
-                            }
-                        } catch (final Throwable throwable) {
-                            // Catches any errors thrown and sends a message to the viewer that something happened.
-
-                            // If the user has the developer permission, send them information on the error that occurred.
-                            MenuUtils.sendDeveloperErrorMessage(user, throwable);
-
-                            // Close the inventory for the viewer of the inventory (to prevent any further issues)
-                            user.player().closeInventory();
-                            // Send them a message saying something happened.
-                            user.tell("<red>An error occurred while clicking in your menu! If this happens again, please report this to staff member!");
-                            // Also log the error to console.
-                            Utils.logError(throwable);
-                            Utils.logError("Error clicking in " + menu + " for " + user);
+                switch (route) {
+                    case BUTTON -> {
+                        // Pickup, place, and clone actions in the menu are handled by a button or the menu.
+                        if (clickLocation == ClickLocation.MENU) {
+                            dispatch(user, menu, InventoryPosition.fromSlot(event.getSlot()), event.getClick(), clicked);
                         }
-                    }
-                    // If the location is not a menu, handle the click for a player.
-                    if (clickLocation == ClickLocation.PLAYER) {
-                        menu.onPlayerClick(user, event);
-                    }
-                    // Return, we don't want to continue anymore all logic should have been run.
-                    return;
-                }
 
-                // If the action was to move to another inventory or the click location wasn't a player and wasn't handled otherwise.
-                if (action == InventoryAction.MOVE_TO_OTHER_INVENTORY) {
-                    if (clickLocation == ClickLocation.PLAYER) {
-                        menu.onPlayerClick(user, event);
+                        // If the location is not a menu, handle the click for a player.
+                        if (clickLocation == ClickLocation.PLAYER) {
+                            menu.onPlayerClick(user, event);
+                        }
+                        // Return, we don't want to continue anymore all logic should have been run.
                         return;
                     }
-                    // Attempt to handle the click.
-                    try {
-                        // The button from the clicked item.
-                        final Button<T> button = menu.getButton(clicked, position);
-                        // If the button isn't null, let it handle the click, if it is null, let the menu handle it.
-                        if (button != null) {
-                            button.onClicked(user, menu, event.getClick());
-
-                            if (button instanceof DynamicButton<T> dynamicButton) {
-                                dynamicButton.updateInner(user, menu);
-                            }
-                        } else if (menu instanceof PaginatedMenu<T, ?> paginatedMenu) {
-                            // Check if we are a paged menu.
-
-                            // We are a paged menu! Attempt page button lookup.
-                            final Button<T> pageButton = paginatedMenu.getPageButton(clicked, position);
-                            if (pageButton != null) {
-                                pageButton.onClicked(user, menu, event.getClick());
-
-                                if (pageButton instanceof DynamicButton<T> dynamicButton) {
-                                    dynamicButton.updateInner(user, menu);
-                                }
-                            } else {
-                                menu.onClick(user, position, event.getClick(), clicked);
-                            }
-                        } else if (menu instanceof final PageMenu<T> pageMenu) {
-                            final Button<T> pageButton = pageMenu.getPageButton(clicked, position);
-                            if (pageButton != null) {
-                                pageButton.onClicked(user, menu, event.getClick());
-
-                                if (pageButton instanceof final DynamicButton<T> dynamicButton) {
-                                    dynamicButton.updateInner(user, menu);
-                                }
-                            } else {
-                                menu.onClick(user, position, event.getClick(), clicked);
-                            }
-                        } else {
-                            menu.onClick(user, position, event.getClick(), clicked);
+                    case MOVE -> {
+                        if (clickLocation == ClickLocation.PLAYER) {
+                            menu.onPlayerClick(user, event);
+                            return;
+                        }
+
+                        dispatch(user, menu, InventoryPosition.fromSlot(event.getSlot()), event.getClick(), clicked);
+                    }
+                    case OTHER -> {
+                        // If the click location is a player (and wasn't handled earlier) allow the menu to handle the click.
+                        if (clickLocation == ClickLocation.PLAYER) {
+                            menu.onPlayerClick(user, event);
                         }
-                    } catch (final Throwable throwable) {
-                        // Catches any errors thrown and sends a message to the viewer that something happened.
-
-                        // If the user has the developer permission, send them information on the error that occurred.
-                        MenuUtils.sendDeveloperErrorMessage(user, throwable);
-
-                        // Close the inventory for the viewer of the inventory (to prevent any further issues)
-                        user.player().closeInventory();
-                        // Send them a message saying something happened.
-                        user.tell("<red>An error occurred while clicking in your menu! If this happens again, please report this to staff member!");
-                        // Also log the error to console.
-                        Utils.logError(throwable);
-                        Utils.logError("Error clicking in " + menu + " for " + user);
                     }
                 }
-                // If the click location is a player (and wasn't handled earlier) allow the menu to handle the click.
-                if (clickLocation == ClickLocation.PLAYER) {
-                    menu.onPlayerClick(user, event);
+            }
+        }
+    }
+
+    /**
+     * Passes a click to the clicked button, or to the menu if no button was clicked.
+     * <p>
+     * The time taken to handle the click is recorded in {@link MenuMetrics}.
+     *
+     * @param user     The holder that clicked.
+     * @param menu     The menu clicked in.
+     * @param position The clicked position.
+     * @param click    The click type.
+     * @param clicked  The clicked item.
+     * @param <T>      The holder type.
+     */
+    private <T extends MenuHolder> void dispatch(final T user, final Menu<T> menu, final InventoryPosition position, final ClickType click, final ItemStack clicked) {
+        final long start = System.nanoTime();
+        // Attempt to handle buttons.
+        try {
+            // Ask the menu's resolvers for the clicked button.
+            final Button<T> button = menu.resolveButton(clicked, position);
+
+            // If the button is not null, allow the button to handle the click,
+            // if it is null, allow the menu to handle it.
+            if (button != null) {
+                button.onClicked(user, menu, click);
+
+                if (button instanceof final DynamicButton<T> dynamicButton) {
+                    dynamicButton.updateInner(user, menu);
                 }
+            } else {
+                menu.onClick(user, position, click, clicked);
             }
+
+            MenuMetrics.recordClick(menu, button, System.nanoTime() - start);
+        } catch (final Throwable throwable) {
+            // Catches any errors thrown and sends a message to the viewer that something happened.
+
+            // If the user has the developer permission, send them information on the error that occurred.
+            MenuUtils.sendDeveloperErrorMessage(user, throwable);
+
+            // Close the inventory for the viewer of the inventory (to prevent any further issues)
+            user.player().closeInventory();
+            // Send them a message saying something happened.
+            user.tell("<red>An error occurred while clicking in your menu! If this happens again, please report this to staff member!");
+            // Also log the error to console.
+            Utils.logError(throwable);
+            Utils.logError("Error clicking in " + menu + " for " + user);
+        }
+    }
+
+    /**
+     * Called after a click has been processed, if the click wasn't cancelled the holder may have altered the inventory.
+     *
+     * @param event The event.
+     */
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public void onAllowedClick(final @NotNull InventoryClickEvent event) {
+        if (event.getInventory().getHolder() instanceof final MenuInventory<? extends MenuHolder> inv) {
+            inv.invalidateShadow();
+        }
+    }
+
+    /**
+     * Called after a drag has been processed, if the drag wasn't cancelled the holder may have altered the inventory.
+     *
+     * @param event The event.
+     */
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public void onAllowedDrag(final @NotNull InventoryDragEvent event) {
+        if (event.getInventory().getHolder() instanceof final MenuInventory<? extends MenuHolder> inv) {
+            inv.invalidateShadow();
         }
     }
 
@@ -305,7 +319,7 @@ public final class MenuListeners implements Listener {
     public <T extends MenuHolder> void onDrag(@NotNull InventoryDragEvent event) {
         if (event.getWhoClicked() instanceof Player && event.getInventory().getHolder() instanceof final MenuInventory<? extends MenuHolder> inv) {
             // Get the holder instance.
-            final T user = (T) inv.holder();
+            final T user = (T) inv.holderFor(event.getWhoClicked());
             if (user == null) return;
 
             if (user.getViewedMenu() != null) {
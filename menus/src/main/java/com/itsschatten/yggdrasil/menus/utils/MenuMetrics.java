@@ -0,0 +1,302 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import com.itsschatten.yggdrasil.menus.Menu;
+import com.itsschatten.yggdrasil.menus.buttons.Button;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and click latencies recorded for every {@link Menu} subclass and every {@link Button} type.
+ * <p>
+ * Counters are recorded with {@link LongAdder}s and are cheap enough to always be enabled,
+ * recording can still be turned off with {@link #setEnabled(boolean)}.
+ * Menus are keyed by their runtime class, anonymous menus and buttons are recorded under their own (anonymous) class.
+ */
+public final class MenuMetrics {
+
+    /**
+     * The recorded stats of every menu class.
+     */
+    private static final Map<Class<?>, MenuStats> MENUS = new ConcurrentHashMap<>();
+
+    /**
+     * The click latencies of every button class.
+     */
+    private static final Map<Class<?>, LatencyHistogram> BUTTONS = new ConcurrentHashMap<>();
+
+    /**
+     * If metrics are currently recorded.
+     */
+    private static volatile boolean enabled = true;
+
+    private MenuMetrics() {
+    }
+
+    /**
+     * Get the stats of a menu class, creating them if they don't exist.
+     *
+     * @param menu The menu class.
+     * @return The {@link MenuStats} of the class.
+     */
+    public static @NotNull MenuStats of(final @NotNull Class<?> menu) {
+        return MENUS.computeIfAbsent(menu, (key) -> new MenuStats());
+    }
+
+    /**
+     * Get the click latencies of a button class, creating them if they don't exist.
+     *
+     * @param button The button class.
+     * @return The {@link LatencyHistogram} of the class.
+     */
+    public static @NotNull LatencyHistogram button(final @NotNull Class<?> button) {
+        return BUTTONS.computeIfAbsent(button, (key) -> new LatencyHistogram());
+    }
+
+    /**
+     * Records the time a click took to be handled.
+     *
+     * @param menu   The menu clicked in.
+     * @param button The clicked button, {@code null} if the click was handled by the menu.
+     * @param nanos  The time from receiving the click to the handler returning, in nanoseconds.
+     */
+    @ApiStatus.Internal
+    public static void recordClick(final @NotNull Menu<?> menu, final Button<?> button, final long nanos) {
+        if (!enabled) return;
+
+        menu.metrics().clicks().record(nanos);
+        if (button != null) {
+            button(button.getClass()).record(nanos);
+        }
+    }
+
+    /**
+     * Get the stats of every menu class that recorded anything.
+     *
+     * @return An unmodifiable copy of the stats, by menu class.
+     */
+    public static @NotNull @Unmodifiable Map<Class<?>, MenuStats> menus() {
+        return Map.copyOf(MENUS);
+    }
+
+    /**
+     * Get the click latencies of every button class that was clicked.
+     *
+     * @return An unmodifiable copy of the latencies, by button class.
+     */
+    public static @NotNull @Unmodifiable Map<Class<?>, LatencyHistogram> buttons() {
+        return Map.copyOf(BUTTONS);
+    }
+
+    /**
+     * Resets every recorded counter and latency.
+     * <p>
+     * Stats are reset in place, so menus that already obtained their stats keep recording into them.
+     */
+    public static void reset() {
+        MENUS.values().forEach(MenuStats::reset);
+        BUTTONS.values().forEach(LatencyHistogram::reset);
+    }
+
+    /**
+     * Check if metrics are currently recorded.
+     *
+     * @return {@code true} if metrics are recorded.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets if metrics should be recorded.
+     *
+     * @param enabled {@code true} to record metrics.
+     */
+    public static void setEnabled(final boolean enabled) {
+        MenuMetrics.enabled = enabled;
+    }
+
+    /**
+     * The counters recorded for a menu class.
+     */
+    public static final class MenuStats {
+
+        /**
+         * The number of times the menu was displayed.
+         */
+        private final LongAdder opens = new LongAdder();
+
+        /**
+         * The number of times the menu was refreshed.
+         */
+        private final LongAdder refreshes = new LongAdder();
+
+        /**
+         * The number of times the menu, or a page of the menu, was redrawn.
+         */
+        private final LongAdder redraws = new LongAdder();
+
+        /**
+         * The number of slot writes.
+         */
+        private final LongAdder slotWrites = new LongAdder();
+
+        /**
+         * The number of buttons registered.
+         */
+        private final LongAdder buttonRegistrations = new LongAdder();
+
+        /**
+         * The number of animation frames drawn, by animated buttons or the menu.
+         */
+        private final LongAdder animationFrames = new LongAdder();
+
+        /**
+         * The latency of handled clicks.
+         */
+        private final LatencyHistogram clicks = new LatencyHistogram();
+
+        private MenuStats() {
+        }
+
+        /**
+         * Records a call to {@link Menu#displayTo(MenuHolder)}.
+         */
+        @ApiStatus.Internal
+        public void open() {
+            if (enabled) opens.increment();
+        }
+
+        /**
+         * Records a call to {@link Menu#refresh()}.
+         */
+        @ApiStatus.Internal
+        public void refresh() {
+            if (enabled) refreshes.increment();
+        }
+
+        /**
+         * Records a redraw of the menu, or of a page of the menu.
+         */
+        @ApiStatus.Internal
+        public void redraw() {
+            if (enabled) redraws.increment();
+        }
+
+        /**
+         * Records a write to a slot.
+         */
+        @ApiStatus.Internal
+        public void slotWrite() {
+            if (enabled) slotWrites.increment();
+        }
+
+        /**
+         * Records a button registration.
+         */
+        @ApiStatus.Internal
+        public void buttonRegistration() {
+            if (enabled) buttonRegistrations.increment();
+        }
+
+        /**
+         * Records an animation frame, of either an animated button or the menu.
+         */
+        @ApiStatus.Internal
+        public void animationFrame() {
+            if (enabled) animationFrames.increment();
+        }
+
+        /**
+         * Get the number of times the menu was displayed.
+         *
+         * @return The number of opens.
+         */
+        public long opens() {
+            return opens.sum();
+        }
+
+        /**
+         * Get the number of times the menu was refreshed.
+         *
+         * @return The number of refreshes.
+         */
+        public long refreshes() {
+            return refreshes.sum();
+        }
+
+        /**
+         * Get the number of times the menu, or a page of the menu, was redrawn.
+         *
+         * @return The number of redraws.
+         */
+        public long redraws() {
+            return redraws.sum();
+        }
+
+        /**
+         * Get the number of slot writes, through both {@code set} and {@code forceSet}.
+         *
+         * @return The number of slot writes.
+         */
+        public long slotWrites() {
+            return slotWrites.sum();
+        }
+
+        /**
+         * Get the number of registered buttons.
+         *
+         * @return The number of button registrations.
+         */
+        public long buttonRegistrations() {
+            return buttonRegistrations.sum();
+        }
+
+        /**
+         * Get the number of animation frames.
+         *
+         * @return The number of animation frames.
+         */
+        public long animationFrames() {
+            return animationFrames.sum();
+        }
+
+        /**
+         * Get the click-to-handler latencies of the menu.
+         *
+         * @return The {@link LatencyHistogram} of clicks.
+         */
+        public @NotNull LatencyHistogram clicks() {
+            return clicks;
+        }
+
+        private void reset() {
+            opens.reset();
+            refreshes.reset();
+            redraws.reset();
+            slotWrites.reset();
+            buttonRegistrations.reset();
+            animationFrames.reset();
+            clicks.reset();
+        }
+
+        @Override
+        public String toString() {
+            return "MenuStats{" +
+                    "opens=" + opens() +
+                    ", refreshes=" + refreshes() +
+                    ", redraws=" + redraws() +
+                    ", slotWrites=" + slotWrites() +
+                    ", buttonRegistrations=" + buttonRegistrations() +
+                    ", animationFrames=" + animationFrames() +
+                    ", clicks=" + clicks +
+                    '}';
+        }
+
+    }
+
+}
@@ -9,7 +9,9 @@ import java.util.*;
  * Utility class to paginate a menu.
  *
  * @param <T> The object.
+ * @deprecated Every page is computed up front, use a {@link PageSource} which only fetches the viewed page.
  */
+@Deprecated
 @Getter
 public final class MenuPaginator<T> {
 
@@ -0,0 +1,211 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import com.itsschatten.yggdrasil.menus.Menu;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The menu state of a single player, held by {@link MenuSessions}.
+ * <p>
+ * All fields are safe to read from any thread, writes should happen on the main thread.
+ */
+public final class MenuSession {
+
+    /**
+     * The maximum number of menus kept in the navigation history.
+     */
+    public static final int HISTORY_LIMIT = 16;
+
+    /**
+     * The unique id of the player this session belongs to.
+     */
+    private final UUID id;
+
+    /**
+     * Previously active menus, the most recent first.
+     */
+    private final Deque<Menu<? extends MenuHolder>> history = new ArrayDeque<>();
+
+    /**
+     * The holder cached by {@link MenuHolder#wrap(org.bukkit.entity.Player)}.
+     */
+    private volatile MenuHolder holder;
+
+    /**
+     * The currently active menu.
+     */
+    private volatile Menu<? extends MenuHolder> current;
+
+    /**
+     * The previously active menu.
+     */
+    private volatile Menu<? extends MenuHolder> previous;
+
+    /**
+     * The menu of another holder this player is viewing.
+     */
+    private volatile Menu<? extends MenuHolder> viewed;
+
+    /**
+     * Incremented every time a menu is prepared or displayed, only the latest {@link PreparedMenu} may be committed.
+     */
+    private final AtomicLong openToken = new AtomicLong();
+
+    /**
+     * Constructs a new session.
+     *
+     * @param id The unique id of the player.
+     */
+    MenuSession(final @NotNull UUID id) {
+        this.id = id;
+    }
+
+    /**
+     * Get the unique id of the player this session belongs to.
+     *
+     * @return The player's {@link UUID}.
+     */
+    public @NotNull UUID id() {
+        return id;
+    }
+
+    /**
+     * Get the holder cached for this player.
+     *
+     * @return The cached {@link MenuHolder}, {@code null} if none has been cached.
+     */
+    public @Nullable MenuHolder holder() {
+        return holder;
+    }
+
+    /**
+     * Caches a holder for this player.
+     *
+     * @param holder The holder.
+     */
+    public void holder(final @Nullable MenuHolder holder) {
+        this.holder = holder;
+    }
+
+    /**
+     * Get the currently active menu.
+     *
+     * @return The active {@link Menu}, {@code null} if none.
+     */
+    public @Nullable Menu<? extends MenuHolder> current() {
+        return current;
+    }
+
+    /**
+     * Get the previously active menu.
+     *
+     * @return The previous {@link Menu}, {@code null} if none.
+     */
+    public @Nullable Menu<? extends MenuHolder> previous() {
+        return previous;
+    }
+
+    /**
+     * Get the menu of another holder this player is viewing.
+     *
+     * @return The viewed {@link Menu}, {@code null} if none.
+     */
+    public @Nullable Menu<? extends MenuHolder> viewed() {
+        return viewed;
+    }
+
+    /**
+     * Sets the active menu, moving the current active menu to previous and into the history.
+     * <p>
+     * Displaying the active menu again leaves the previous menu and the history untouched.
+     *
+     * @param menu The new active menu.
+     */
+    public void update(final @NotNull Menu<? extends MenuHolder> menu) {
+        final Menu<? extends MenuHolder> active = this.current;
+        if (active != null && active != menu) {
+            this.previous = active;
+
+            synchronized (history) {
+                history.addFirst(active);
+                while (history.size() > HISTORY_LIMIT) {
+                    history.removeLast();
+                }
+            }
+        }
+
+        this.current = menu;
+    }
+
+    /**
+     * Removes the active menu.
+     */
+    public void clearCurrent() {
+        this.current = null;
+    }
+
+    /**
+     * Removes the previous menu.
+     */
+    public void clearPrevious() {
+        this.previous = null;
+    }
+
+    /**
+     * Sets the menu of another holder this player is viewing.
+     *
+     * @param menu The viewed menu, {@code null} to remove it.
+     */
+    public void viewed(final @Nullable Menu<? extends MenuHolder> menu) {
+        this.viewed = menu;
+    }
+
+    /**
+     * Supersedes every pending {@link PreparedMenu} of this player.
+     *
+     * @return The new open token.
+     */
+    public long nextOpenToken() {
+        return openToken.incrementAndGet();
+    }
+
+    /**
+     * Checks if an open token is still the latest, a newer token means something else was prepared or displayed since.
+     *
+     * @param token The token.
+     * @return {@code true} if the token is the latest.
+     */
+    public boolean isLatestOpen(final long token) {
+        return openToken.get() == token;
+    }
+
+    /**
+     * Get the navigation history of this player.
+     *
+     * @return An unmodifiable copy of previously active menus, the most recent first.
+     */
+    public @NotNull @Unmodifiable List<Menu<? extends MenuHolder>> history() {
+        synchronized (history) {
+            return List.copyOf(history);
+        }
+    }
+
+    /**
+     * Removes and returns the most recent menu in the navigation history.
+     *
+     * @return The most recent previously active {@link Menu}, {@code null} if the history is empty.
+     */
+    public @Nullable Menu<? extends MenuHolder> popHistory() {
+        synchronized (history) {
+            return history.pollFirst();
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of every player's {@link MenuSession}, keyed by their unique id.
+ * <p>
+ * Sessions are removed when the player leaves the server.
+ *
+ * @see MenuListeners
+ */
+public final class MenuSessions {
+
+    /**
+     * All sessions, by the unique id of their player.
+     */
+    private static final Map<UUID, MenuSession> SESSIONS = new ConcurrentHashMap<>();
+
+    private MenuSessions() {
+    }
+
+    /**
+     * Get the session of a player, creating it if it doesn't exist.
+     *
+     * @param id The unique id of the player.
+     * @return The player's {@link MenuSession}.
+     */
+    public static @NotNull MenuSession get(final @NotNull UUID id) {
+        return SESSIONS.computeIfAbsent(id, MenuSession::new);
+    }
+
+    /**
+     * Get the session of a player without creating it.
+     *
+     * @param id The unique id of the player.
+     * @return The player's {@link MenuSession}, {@code null} if they have none.
+     */
+    public static @Nullable MenuSession find(final @NotNull UUID id) {
+        return SESSIONS.get(id);
+    }
+
+    /**
+     * Removes the session of a player.
+     *
+     * @param id The unique id of the player.
+     */
+    public static void remove(final @NotNull UUID id) {
+        SESSIONS.remove(id);
+    }
+
+    /**
+     * Removes every session.
+     */
+    public static void clear() {
+        SESSIONS.clear();
+    }
+
+    /**
+     * Get the number of sessions.
+     *
+     * @return The number of players with a session.
+     */
+    public static int size() {
+        return SESSIONS.size();
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import com.itsschatten.yggdrasil.menus.types.PaginatedMenu;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.IntSupplier;
+
+/**
+ * A source of values for a {@link PaginatedMenu}.
+ * <p>
+ * Only the values of the viewed page are ever requested, allowing values to be streamed from a database or an index
+ * without copying the entire collection into the menu.
+ *
+ * @param <V> The type of value.
+ */
+public interface PageSource<V> {
+
+    /**
+     * Creates a source backed by a copy of the provided values.
+     *
+     * @param values The values.
+     * @param <V>    The type of value.
+     * @return Returns a new {@link ListPageSource}.
+     */
+    static <V> @NotNull ListPageSource<V> of(final @NotNull Collection<V> values) {
+        return new ListPageSource<>(values);
+    }
+
+    /**
+     * Creates a source that fetches its values synchronously.
+     *
+     * @param count   Supplies the total number of values.
+     * @param fetcher Fetches the values in a range, provided the offset and the limit.
+     * @param <V>     The type of value.
+     * @return Returns a new {@link PageSource}.
+     */
+    static <V> @NotNull PageSource<V> sync(final @NotNull IntSupplier count, final @NotNull BiFunction<Integer, Integer, List<V>> fetcher) {
+        return new PageSource<>() {
+            @Override
+            public int count() {
+                return count.getAsInt();
+            }
+
+            @Override
+            public @NotNull CompletableFuture<List<V>> fetch(int offset, int limit) {
+                return CompletableFuture.completedFuture(fetcher.apply(offset, limit));
+            }
+        };
+    }
+
+    /**
+     * Creates a source that fetches its values asynchronously.
+     *
+     * @param count   Supplies the total number of values.
+     * @param fetcher Fetches the values in a range, provided the offset and the limit.
+     * @param <V>     The type of value.
+     * @return Returns a new {@link PageSource}.
+     */
+    static <V> @NotNull PageSource<V> async(final @NotNull IntSupplier count, final @NotNull BiFunction<Integer, Integer, CompletableFuture<List<V>>> fetcher) {
+        return new PageSource<>() {
+            @Override
+            public int count() {
+                return count.getAsInt();
+            }
+
+            @Override
+            public @NotNull CompletableFuture<List<V>> fetch(int offset, int limit) {
+                return fetcher.apply(offset, limit);
+            }
+        };
+    }
+
+    /**
+     * Get the total number of values in this source.
+     * <p>
+     * This is called on the main thread whenever the number of pages is required, implementations should cache expensive counts.
+     *
+     * @return The number of values.
+     */
+    int count();
+
+    /**
+     * Fetches a range of values.
+     * <p>
+     * If the returned future is already complete the values are drawn immediately,
+     * otherwise a placeholder is drawn until the future completes.
+     *
+     * @param offset The index of the first value.
+     * @param limit  The maximum number of values to fetch.
+     * @return A future completing with the values in the range, the list may be shorter than {@code limit}.
+     */
+    @NotNull
+    CompletableFuture<@Unmodifiable List<V>> fetch(int offset, int limit);
+
+}
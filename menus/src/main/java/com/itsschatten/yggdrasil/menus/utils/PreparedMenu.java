@@ -0,0 +1,181 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import com.itsschatten.yggdrasil.menus.Menu;
+import com.itsschatten.yggdrasil.menus.buttons.Button;
+import com.itsschatten.yggdrasil.scheduler.Schedulers;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * A menu whose buttons were made, and whose button items were built, off the main thread by {@link Menu#prepare(MenuHolder)}.
+ * <p>
+ * {@link #commit() Committing} registers the prepared buttons and displays the menu, drawing only copies the already built stacks.
+ * A prepared menu is abandoned instead of committed if, since it was prepared, the player:
+ * <ul>
+ *     <li>left the server,</li>
+ *     <li>opened a different inventory,</li>
+ *     <li>or prepared or was displayed another menu.</li>
+ * </ul>
+ *
+ * @param <T> The holder type.
+ */
+public final class PreparedMenu<T extends MenuHolder> {
+
+    /**
+     * The executor used to prepare menus when none is provided, every menu is prepared on its own virtual thread.
+     */
+    public static final Executor DEFAULT_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * The prepared menu.
+     */
+    private final Menu<T> menu;
+
+    /**
+     * The holder the menu is prepared for.
+     */
+    private final T holder;
+
+    /**
+     * The prepared buttons, in registration order.
+     */
+    private final List<Button<T>> buttons;
+
+    /**
+     * The open token of the holder's {@link MenuSession} when the menu was prepared.
+     */
+    private final long token;
+
+    /**
+     * The top inventory the holder had open when the menu was prepared.
+     */
+    private final Inventory openInventory;
+
+    /**
+     * If this menu was abandoned or already committed.
+     */
+    private volatile boolean done;
+
+    /**
+     * Constructs a new prepared menu.
+     *
+     * @param menu          The prepared menu.
+     * @param holder        The holder the menu is prepared for.
+     * @param buttons       The prepared buttons.
+     * @param token         The open token of the holder's session.
+     * @param openInventory The top inventory the holder had open.
+     */
+    @ApiStatus.Internal
+    public PreparedMenu(final @NotNull Menu<T> menu, final @NotNull T holder, final @NotNull List<Button<T>> buttons,
+                        final long token, final @Nullable Inventory openInventory) {
+        this.menu = menu;
+        this.holder = holder;
+        this.buttons = Collections.unmodifiableList(new ArrayList<>(buttons));
+        this.token = token;
+        this.openInventory = openInventory;
+    }
+
+    /**
+     * Get the top inventory a player has open.
+     *
+     * @param player The player.
+     * @return The top {@link Inventory}, {@code null} if the player has nothing open.
+     */
+    @ApiStatus.Internal
+    public static @Nullable Inventory topInventory(final @NotNull Player player) {
+        return player.getOpenInventory() == null ? null : player.getOpenInventory().getTopInventory();
+    }
+
+    /**
+     * Get the prepared menu.
+     *
+     * @return The {@link Menu}.
+     */
+    public @NotNull Menu<T> menu() {
+        return menu;
+    }
+
+    /**
+     * Get the holder the menu is prepared for.
+     *
+     * @return The holder.
+     */
+    public @NotNull T holder() {
+        return holder;
+    }
+
+    /**
+     * Get the prepared buttons, their items have already been built.
+     *
+     * @return An unmodifiable list of buttons, in registration order.
+     */
+    public @NotNull @Unmodifiable List<Button<T>> buttons() {
+        return buttons;
+    }
+
+    /**
+     * Checks if this menu may still be committed.
+     *
+     * @return {@code true} if this menu wasn't abandoned or committed and the holder hasn't moved on since it was prepared.
+     */
+    public boolean isValid() {
+        if (done) return false;
+
+        final Player player = holder.player();
+        if (player == null || !player.isOnline()) return false;
+        if (!holder.session().isLatestOpen(token)) return false;
+
+        return topInventory(player) == openInventory;
+    }
+
+    /**
+     * Abandons this menu, it can no longer be committed.
+     */
+    public void cancel() {
+        done = true;
+    }
+
+    /**
+     * Registers the prepared buttons and displays the menu to the holder,
+     * must be called on the thread owning the holder's player, the main thread when not on Folia.
+     *
+     * @return {@code true} if the menu was displayed, {@code false} if it was abandoned.
+     * @throws IllegalStateException If called off the thread owning the holder's player.
+     */
+    public boolean commit() {
+        final Player player = holder.player();
+        if (player != null && !Schedulers.get().isOwnedByCurrentThread(player)) {
+            throw new IllegalStateException("A prepared menu must be committed on the thread owning the player.");
+        }
+
+        if (!isValid()) {
+            cancel();
+            return false;
+        }
+
+        done = true;
+        menu.displayPrepared(this);
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedMenu{" +
+                "menu=" + menu +
+                ", buttons=" + buttons.size() +
+                ", token=" + token +
+                ", done=" + done +
+                '}';
+    }
+
+}
@@ -4,14 +4,14 @@ import com.itsschatten.yggdrasil.Utils;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
-import org.bukkit.Bukkit;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
 
 /**
- * Utility class that allows a BukkitTask to be reinitialized after it has been canceled.
+ * Utility class that allows a task to be paused and resumed without rescheduling it.
+ * <p>
+ * All tasks are fired by the shared {@link TimingWheel}, tasks with the same delay fire on the same tick.
  */
 public abstract class ReschedulableTask implements Runnable {
 
@@ -27,9 +27,9 @@ public abstract class ReschedulableTask implements Runnable {
     final Type type;
 
     /**
-     * The physical task, this will always be a timer task.
+     * The entry for this task on the {@link TimingWheel}, {@code null} until this task is first registered.
      */
-    BukkitTask task;
+    TimingWheel.Entry task;
 
     /**
      * If this event has been canceled or not.
@@ -50,27 +50,35 @@ public abstract class ReschedulableTask implements Runnable {
     }
 
     /**
-     * Cancel the Bukkit task and this task.
+     * Cancel this task, pausing it on the {@link TimingWheel}.
      */
     public final void cancel() {
         setCanceled(true);
-        task.cancel();
+        if (task != null) {
+            task.pause();
+        }
     }
 
     /**
      * Register this task and set it running.
      * <p>
+     * Registering an already registered task only resumes it.
      * This is all ran sync.
      */
     public final void register() {
-        this.task = Bukkit.getScheduler().runTaskTimer(Utils.getInstance(), () -> {
+        if (task != null) {
+            task.resume();
+            return;
+        }
+
+        this.task = TimingWheel.schedule(delay, () -> {
             try {
                 this.run();
             } catch (Exception ex) {
                 Utils.logError(ex);
                 this.cancel();
             }
-        }, 1, delay);
+        });
     }
 
     /**
@@ -83,10 +91,10 @@ public abstract class ReschedulableTask implements Runnable {
     }
 
     /**
-     * Restart the task, registering a new Task instance.
+     * Restart the task, resuming it on the {@link TimingWheel} if it was canceled.
      */
     public final void restart() {
-        if (this.isCanceled() || task.isCancelled()) {
+        if (this.isCanceled() || task == null || !task.isActive()) {
             setCanceled(false);
             register();
         }
@@ -0,0 +1,411 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable set of {@link InventoryPosition positions}, backed by a {@code long} bitset of effective slots.
+ * <p>
+ * Bit {@code n} is set if the slot {@code n} is in the mask, so every slot of a six row inventory fits in a single {@code long}.
+ * Set operations are single bitwise operations and iterating a mask only visits its set bits,
+ * positions are looked up in the {@link InventoryPosition#of(int, int) interned table}.
+ *
+ * @param bits The slots in this mask.
+ */
+public record SlotMask(long bits) implements Iterable<InventoryPosition> {
+
+    /**
+     * The number of slots a mask can hold, the slots of a six row inventory.
+     */
+    public static final int SLOTS = 54;
+
+    /**
+     * A mask with no slots.
+     */
+    public static final SlotMask EMPTY = new SlotMask(0L);
+
+    /**
+     * A mask with every slot of a six row inventory.
+     */
+    public static final SlotMask ALL = new SlotMask((1L << SLOTS) - 1);
+
+    /**
+     * The masks of every row.
+     */
+    private static final long[] ROWS = new long[6];
+
+    /**
+     * The masks of every column.
+     */
+    private static final long[] COLUMNS = new long[9];
+
+    static {
+        for (int row = 0; row < ROWS.length; row++) {
+            ROWS[row] = 0x1FFL << (row * 9);
+        }
+
+        for (int column = 0; column < COLUMNS.length; column++) {
+            long bits = 0L;
+            for (int row = 0; row < ROWS.length; row++) {
+                bits |= 1L << (row * 9 + column);
+            }
+            COLUMNS[column] = bits;
+        }
+    }
+
+    /**
+     * A mask of {@link InventoryPosition#MIDDLE_POSITIONS}.
+     */
+    public static final SlotMask MIDDLE = of(InventoryPosition.MIDDLE_POSITIONS);
+
+    /**
+     * A mask of {@link InventoryPosition#EDGE_POSITIONS}.
+     */
+    public static final SlotMask EDGES = of(InventoryPosition.EDGE_POSITIONS);
+
+    /**
+     * Get a mask containing the provided positions.
+     *
+     * @param positions The positions.
+     * @return A {@link SlotMask} of the positions, out of range positions are ignored.
+     */
+    public static @NotNull SlotMask of(final InventoryPosition @NotNull ... positions) {
+        long bits = 0L;
+        for (final InventoryPosition position : positions) {
+            bits |= bit(position);
+        }
+        return new SlotMask(bits);
+    }
+
+    /**
+     * Get a mask containing the provided positions.
+     *
+     * @param positions The positions.
+     * @return A {@link SlotMask} of the positions, out of range and {@code null} positions are ignored.
+     */
+    public static @NotNull SlotMask of(final @NotNull Iterable<InventoryPosition> positions) {
+        long bits = 0L;
+        for (final InventoryPosition position : positions) {
+            bits |= bit(position);
+        }
+        return new SlotMask(bits);
+    }
+
+    /**
+     * Get a mask containing the provided effective slots.
+     *
+     * @param slots The slots.
+     * @return A {@link SlotMask} of the slots, out of range slots are ignored.
+     */
+    public static @NotNull SlotMask ofSlots(final int @NotNull ... slots) {
+        long bits = 0L;
+        for (final int slot : slots) {
+            bits |= bit(slot);
+        }
+        return new SlotMask(bits);
+    }
+
+    /**
+     * Get a mask of the first slots of an inventory, every slot an inventory of the provided size has.
+     *
+     * @param size The size of the inventory.
+     * @return A {@link SlotMask} of the slots {@code 0} to {@code size - 1}.
+     */
+    public static @NotNull SlotMask ofSize(final int size) {
+        if (size >= SLOTS) return ALL;
+        if (size <= 0) return EMPTY;
+        return new SlotMask((1L << size) - 1);
+    }
+
+    /**
+     * Get a mask of a full row.
+     *
+     * @param row The row.
+     * @return A {@link SlotMask} of every slot in the row.
+     */
+    public static @NotNull SlotMask row(@Range(from = 0, to = 5) final int row) {
+        return row < 0 || row >= ROWS.length ? EMPTY : new SlotMask(ROWS[row]);
+    }
+
+    /**
+     * Get a mask of a full column.
+     *
+     * @param column The column.
+     * @return A {@link SlotMask} of every slot in the column.
+     */
+    public static @NotNull SlotMask column(@Range(from = 0, to = 8) final int column) {
+        return column < 0 || column >= COLUMNS.length ? EMPTY : new SlotMask(COLUMNS[column]);
+    }
+
+    /**
+     * Get a mask of a filled rectangle, both corners are included.
+     *
+     * @param fromRow    The first row.
+     * @param fromColumn The first column.
+     * @param toRow      The last row.
+     * @param toColumn   The last column.
+     * @return A {@link SlotMask} of every slot in the rectangle.
+     */
+    public static @NotNull SlotMask rectangle(final int fromRow, final int fromColumn, final int toRow, final int toColumn) {
+        long rows = 0L;
+        for (int row = Math.max(0, fromRow); row <= Math.min(ROWS.length - 1, toRow); row++) {
+            rows |= ROWS[row];
+        }
+
+        long columns = 0L;
+        for (int column = Math.max(0, fromColumn); column <= Math.min(COLUMNS.length - 1, toColumn); column++) {
+            columns |= COLUMNS[column];
+        }
+
+        return new SlotMask(rows & columns);
+    }
+
+    /**
+     * Get a mask of the outline of a rectangle, both corners are included.
+     *
+     * @param fromRow    The first row.
+     * @param fromColumn The first column.
+     * @param toRow      The last row.
+     * @param toColumn   The last column.
+     * @return A {@link SlotMask} of every slot on the edge of the rectangle.
+     */
+    public static @NotNull SlotMask outline(final int fromRow, final int fromColumn, final int toRow, final int toColumn) {
+        final SlotMask filled = rectangle(fromRow, fromColumn, toRow, toColumn);
+        return filled.minus(rectangle(fromRow + 1, fromColumn + 1, toRow - 1, toColumn - 1));
+    }
+
+    /**
+     * Get the bit of an effective slot.
+     *
+     * @param slot The slot.
+     * @return The bit, {@code 0} if the slot is out of range.
+     */
+    private static long bit(final int slot) {
+        return slot < 0 || slot >= SLOTS ? 0L : 1L << slot;
+    }
+
+    /**
+     * Get the bit of a position.
+     *
+     * @param position The position.
+     * @return The bit, {@code 0} if the position is {@code null} or out of range.
+     */
+    private static long bit(final @Nullable InventoryPosition position) {
+        if (position == null || position.column() < 0 || position.column() > 8) return 0L;
+        return bit(position.getEffectiveSlot());
+    }
+
+    /**
+     * Checks if a slot is in this mask.
+     *
+     * @param slot The effective slot.
+     * @return {@code true} if the slot is in this mask.
+     */
+    public boolean contains(final int slot) {
+        return (bits & bit(slot)) != 0L;
+    }
+
+    /**
+     * Checks if a position is in this mask.
+     *
+     * @param position The position.
+     * @return {@code true} if the position is in this mask.
+     */
+    public boolean contains(final @Nullable InventoryPosition position) {
+        return (bits & bit(position)) != 0L;
+    }
+
+    /**
+     * Checks if every slot of another mask is in this mask.
+     *
+     * @param other The other mask.
+     * @return {@code true} if this mask contains the other mask.
+     */
+    public boolean containsAll(final @NotNull SlotMask other) {
+        return (bits & other.bits) == other.bits;
+    }
+
+    /**
+     * Checks if this mask shares a slot with another mask.
+     *
+     * @param other The other mask.
+     * @return {@code true} if the masks intersect.
+     */
+    public boolean intersects(final @NotNull SlotMask other) {
+        return (bits & other.bits) != 0L;
+    }
+
+    /**
+     * Checks if this mask has no slots.
+     *
+     * @return {@code true} if this mask is empty.
+     */
+    public boolean isEmpty() {
+        return bits == 0L;
+    }
+
+    /**
+     * Get the number of slots in this mask.
+     *
+     * @return The number of slots.
+     */
+    public int size() {
+        return Long.bitCount(bits);
+    }
+
+    /**
+     * Get a mask with a position added.
+     *
+     * @param position The position.
+     * @return A {@link SlotMask} containing the position.
+     */
+    @Contract(pure = true)
+    public @NotNull SlotMask with(final @NotNull InventoryPosition position) {
+        return new SlotMask(bits | bit(position));
+    }
+
+    /**
+     * Get a mask with a position removed.
+     *
+     * @param position The position.
+     * @return A {@link SlotMask} not containing the position.
+     */
+    @Contract(pure = true)
+    public @NotNull SlotMask without(final @NotNull InventoryPosition position) {
+        return new SlotMask(bits & ~bit(position));
+    }
+
+    /**
+     * Get the slots in either this or another mask.
+     *
+     * @param other The other mask.
+     * @return The union of both masks.
+     */
+    @Contract(pure = true)
+    public @NotNull SlotMask union(final @NotNull SlotMask other) {
+        return new SlotMask(bits | other.bits);
+    }
+
+    /**
+     * Get the slots in both this and another mask.
+     *
+     * @param other The other mask.
+     * @return The intersection of both masks.
+     */
+    @Contract(pure = true)
+    public @NotNull SlotMask intersect(final @NotNull SlotMask other) {
+        return new SlotMask(bits & other.bits);
+    }
+
+    /**
+     * Get the slots in this mask that aren't in another mask.
+     *
+     * @param other The other mask.
+     * @return This mask without the slots of the other mask.
+     */
+    @Contract(pure = true)
+    public @NotNull SlotMask minus(final @NotNull SlotMask other) {
+        return new SlotMask(bits & ~other.bits);
+    }
+
+    /**
+     * Get every slot of a six row inventory that isn't in this mask.
+     *
+     * @return The complement of this mask.
+     */
+    @Contract(pure = true)
+    public @NotNull SlotMask invert() {
+        return new SlotMask(~bits & ALL.bits);
+    }
+
+    /**
+     * Get the first, lowest, slot in this mask.
+     *
+     * @return The first {@link InventoryPosition}, {@code null} if this mask is empty.
+     */
+    public @Nullable InventoryPosition first() {
+        return bits == 0L ? null : InventoryPosition.fromSlot(Long.numberOfTrailingZeros(bits));
+    }
+
+    /**
+     * Runs an action for every slot in this mask, in ascending order, without allocating.
+     *
+     * @param action The action, given the effective slot.
+     */
+    public void forEachSlot(final @NotNull IntConsumer action) {
+        long remaining = bits;
+        while (remaining != 0L) {
+            action.accept(Long.numberOfTrailingZeros(remaining));
+            remaining &= remaining - 1;
+        }
+    }
+
+    /**
+     * Runs an action for every position in this mask, in ascending slot order, without allocating.
+     *
+     * @param action The action.
+     */
+    @Override
+    public void forEach(final @NotNull Consumer<? super InventoryPosition> action) {
+        long remaining = bits;
+        while (remaining != 0L) {
+            action.accept(InventoryPosition.fromSlot(Long.numberOfTrailingZeros(remaining)));
+            remaining &= remaining - 1;
+        }
+    }
+
+    /**
+     * Get the positions in this mask, in ascending slot order.
+     *
+     * @return An unmodifiable list of {@link InventoryPosition}.
+     */
+    public @NotNull @Unmodifiable List<InventoryPosition> positions() {
+        final List<InventoryPosition> positions = new ArrayList<>(size());
+        forEach(positions::add);
+        return Collections.unmodifiableList(positions);
+    }
+
+    @Override
+    public @NotNull Iterator<InventoryPosition> iterator() {
+        return new Iterator<>() {
+            private long remaining = bits;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0L;
+            }
+
+            @Override
+            public InventoryPosition next() {
+                if (remaining == 0L) throw new NoSuchElementException();
+
+                final int slot = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return InventoryPosition.fromSlot(slot);
+            }
+        };
+    }
+
+    @Contract(pure = true)
+    @Override
+    public @NotNull String toString() {
+        final StringBuilder builder = new StringBuilder("SlotMask{slots=[");
+        forEachSlot((slot) -> {
+            if (builder.charAt(builder.length() - 1) != '[') builder.append(", ");
+            builder.append(slot);
+        });
+        return builder.append("]}").toString();
+    }
+
+}
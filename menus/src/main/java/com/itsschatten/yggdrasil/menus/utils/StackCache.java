@@ -0,0 +1,152 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, least recently used, cache of rendered {@link ItemStack}s keyed by the identity of the value they were rendered from.
+ * <p>
+ * Every entry is stamped with a version, a lookup with a different version is treated as a miss.
+ * A cache with a capacity of {@code 0} is disabled and never stores anything.
+ * <p>
+ * This class is not thread-safe and should only be used on the main thread.
+ *
+ * @param <V> The type of value.
+ */
+public final class StackCache<V> {
+
+    /**
+     * The cached stacks, ordered by access.
+     */
+    private final Map<Identity, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Identity, Entry> eldest) {
+            return size() > capacity;
+        }
+    };
+
+    /**
+     * The maximum number of cached stacks.
+     */
+    private int capacity;
+
+    /**
+     * Constructs a new cache.
+     *
+     * @param capacity The maximum number of cached stacks, {@code 0} to disable the cache.
+     */
+    public StackCache(final int capacity) {
+        setCapacity(capacity);
+    }
+
+    /**
+     * Get the cached stack for a value.
+     *
+     * @param value   The value.
+     * @param version The current version of the value.
+     * @return The cached {@link ItemStack}, {@code null} if none is cached or it was rendered from a different version.
+     */
+    public @Nullable ItemStack get(final @NotNull V value, final long version) {
+        if (capacity == 0) return null;
+
+        final Entry entry = entries.get(new Identity(value));
+        return entry == null || entry.version() != version ? null : entry.stack();
+    }
+
+    /**
+     * Caches a stack for a value.
+     *
+     * @param value   The value.
+     * @param version The version of the value the stack was rendered from.
+     * @param stack   The rendered stack.
+     */
+    public void put(final @NotNull V value, final long version, final @NotNull ItemStack stack) {
+        if (capacity == 0) return;
+
+        entries.put(new Identity(value), new Entry(version, stack));
+    }
+
+    /**
+     * Removes the cached stack for a value.
+     *
+     * @param value The value.
+     */
+    public void invalidate(final @NotNull V value) {
+        entries.remove(new Identity(value));
+    }
+
+    /**
+     * Removes all cached stacks.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Get the maximum number of cached stacks.
+     *
+     * @return The capacity, {@code 0} if the cache is disabled.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets the maximum number of cached stacks, evicting the least recently used stacks if required.
+     *
+     * @param capacity The new capacity, {@code 0} to disable the cache.
+     */
+    public void setCapacity(final int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacity must not be negative, got " + capacity);
+
+        this.capacity = capacity;
+
+        final var iterator = entries.entrySet().iterator();
+        while (entries.size() > capacity && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Get the number of cached stacks.
+     *
+     * @return The size of the cache.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Wraps a value so it is compared by identity.
+     *
+     * @param value The value.
+     */
+    private record Identity(Object value) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Identity other && other.value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+
+    }
+
+    /**
+     * A cached stack.
+     *
+     * @param version The version of the value the stack was rendered from.
+     * @param stack   The rendered stack.
+     */
+    private record Entry(long version, ItemStack stack) {
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import com.itsschatten.yggdrasil.items.ItemCreator;
+import com.itsschatten.yggdrasil.menus.Menu;
+import com.itsschatten.yggdrasil.menus.types.interfaces.Ticking;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The slot changes produced by a {@link Ticking} menu during a single tick.
+ * <p>
+ * Frames are filled off the main thread by {@link Ticking#tick(TickFrame)} and applied by the {@link TickingManager} on the thread owning the menu's viewer,
+ * changes are {@link MenuInventory#forceSet(InventoryPosition, ItemStack) force set} and override any button in the slot.
+ */
+public final class TickFrame {
+
+    /**
+     * The new contents of every changed slot.
+     */
+    private final ItemStack[] changes;
+
+    /**
+     * Bitmask of the slots changed in this frame.
+     */
+    private long mask;
+
+    /**
+     * Tasks to run on the thread owning the viewer once the changes have been applied, {@code null} until one is added.
+     */
+    private List<Runnable> sync;
+
+    /**
+     * Constructs a new, empty, frame.
+     *
+     * @param size The size of the menu this frame is for.
+     */
+    @ApiStatus.Internal
+    public TickFrame(final int size) {
+        this.changes = new ItemStack[size];
+    }
+
+    /**
+     * Sets a slot to an {@link ItemStack}, replacing any earlier change to the slot in this frame.
+     *
+     * @param position The position to set.
+     * @param stack    The stack, {@code null} to clear the slot.
+     */
+    public void set(final @NotNull InventoryPosition position, final @Nullable ItemStack stack) {
+        set(position.getEffectiveSlot(), stack);
+    }
+
+    /**
+     * Sets a slot to a shared item made by an {@link ItemCreator}, replacing any earlier change to the slot in this frame.
+     *
+     * @param position The position to set.
+     * @param creator  The creator of the item.
+     * @see ItemCreator#makeShared()
+     */
+    public void set(final @NotNull InventoryPosition position, final @NotNull ItemCreator creator) {
+        set(position.getEffectiveSlot(), creator.makeShared());
+    }
+
+    /**
+     * Sets a slot to an {@link ItemStack}, replacing any earlier change to the slot in this frame.
+     *
+     * @param slot  The slot to set.
+     * @param stack The stack, {@code null} to clear the slot.
+     */
+    public void set(final int slot, final @Nullable ItemStack stack) {
+        if (slot < 0 || slot >= changes.length) return;
+
+        changes[slot] = stack;
+        mask |= 1L << slot;
+    }
+
+    /**
+     * Queues a task to be run on the thread owning the viewer, the main thread when not on Folia, after this frame's changes have been applied.
+     *
+     * @param runnable The task.
+     */
+    public void runSync(final @NotNull Runnable runnable) {
+        if (sync == null) {
+            sync = new ArrayList<>(1);
+        }
+
+        sync.add(runnable);
+    }
+
+    /**
+     * Get the bitmask of slots changed in this frame.
+     *
+     * @return A {@code long} where every set bit is a changed slot.
+     */
+    public long mask() {
+        return mask;
+    }
+
+    /**
+     * Checks if this frame has nothing to apply.
+     *
+     * @return {@code true} if no slot was changed and no task was queued.
+     */
+    public boolean isEmpty() {
+        return mask == 0L && sync == null;
+    }
+
+    /**
+     * Applies the changes in this frame to a menu and pushes them to its inventory, must be called on the thread owning the menu's viewer.
+     *
+     * @param menu The menu to apply the changes to.
+     */
+    void apply(final @NotNull Menu<?> menu) {
+        long pending = mask;
+        while (pending != 0L) {
+            final int slot = Long.numberOfTrailingZeros(pending);
+            pending &= pending - 1;
+
+            menu.forceSet(InventoryPosition.fromSlot(slot), changes[slot]);
+        }
+
+        if (mask != 0L) {
+            menu.flush();
+        }
+
+        if (sync != null) {
+            sync.forEach(Runnable::run);
+        }
+    }
+
+}
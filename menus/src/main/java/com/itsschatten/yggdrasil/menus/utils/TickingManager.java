@@ -3,37 +3,95 @@ package com.itsschatten.yggdrasil.menus.utils;
 import com.itsschatten.yggdrasil.Utils;
 import com.itsschatten.yggdrasil.menus.Menu;
 import com.itsschatten.yggdrasil.menus.types.interfaces.Ticking;
+import com.itsschatten.yggdrasil.scheduler.Schedulers;
+import com.itsschatten.yggdrasil.scheduler.YggdrasilScheduler;
 import lombok.Getter;
 import lombok.experimental.Accessors;
 import org.apache.commons.lang3.Validate;
-import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class to keep check of all Ticking menus.
+ * <p>
+ * Menus are ticked in two phases, every tick:
+ * <ol>
+ *     <li>The <b>compute</b> phase runs asynchronously, calling {@link Ticking#tick(TickFrame)} for every registered menu that has no frame waiting to be applied.</li>
+ *     <li>The <b>apply</b> phase hands computed frames to the thread owning each menu's viewer, until the {@link #getBudgetNanos() budget} for the tick is spent.
+ *     Frames that don't fit in the budget are handed over on the next tick.
+ *     When not on Folia every viewer is owned by the main thread, and frames are applied immediately.</li>
+ * </ol>
+ * Every time a menu is added it is given a new generation, frames computed for an earlier generation of the menu are discarded,
+ * so a menu removed and added again while it was being computed never has the old frame applied.
  */
 public final class TickingManager {
 
+    /**
+     * The default time the apply phase may spend per tick, in nanoseconds.
+     */
+    public static final long DEFAULT_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
     /**
      * Our storage of all ticking menus.
      * --- GETTER ---
      * Returns the ticking menu.
      *
-     * @return a {@link HashSet} of all {@link Menu} that are ticking.
+     * @return a concurrent {@link Set} of all {@link Menu} that are ticking.
      */
     @Getter
     @Accessors(fluent = true)
     @NotNull
-    private static final Set<Menu<? extends MenuHolder>> TICKING_MENUS = new HashSet<>();
+    private static final Set<Menu<? extends MenuHolder>> TICKING_MENUS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The tick cost of every ticking menu.
+     */
+    private static final Map<Menu<? extends MenuHolder>, TickStats> STATS = new ConcurrentHashMap<>();
+
+    /**
+     * The generation of every ticking menu.
+     */
+    private static final Map<Menu<? extends MenuHolder>, Long> GENERATIONS = new ConcurrentHashMap<>();
+
+    /**
+     * The last generation given to a menu.
+     */
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    /**
+     * Menus that have a computed frame waiting to be applied, with the generation the frame was computed for.
+     */
+    private static final Map<Menu<? extends MenuHolder>, Long> IN_FLIGHT = new ConcurrentHashMap<>();
+
+    /**
+     * Computed frames, in the order they were computed.
+     */
+    private static final Queue<Computed> READY = new ConcurrentLinkedQueue<>();
+
+    /**
+     * If a compute phase is currently running.
+     */
+    private static final AtomicBoolean COMPUTING = new AtomicBoolean();
+
+    /**
+     * The task responsible for ticking all menus, {@code null} if menus aren't ticking.
+     */
+    private static YggdrasilScheduler.Task task;
 
     /**
-     * The id of the task responsible for ticking all menus.
+     * The time the apply phase may spend per tick, in nanoseconds.
      */
-    private static int taskId;
+    private static volatile long budgetNanos = DEFAULT_BUDGET_NANOS;
 
     /**
      * Utility method to add a {@link Menu} into the set.
@@ -43,6 +101,8 @@ public final class TickingManager {
      */
     public static boolean add(final Menu<? extends MenuHolder> menu) {
         Validate.isTrue(menu instanceof Ticking, "To tick a menu it must implement the Ticking interface.");
+        STATS.computeIfAbsent(menu, (key) -> new TickStats());
+        GENERATIONS.computeIfAbsent(menu, (key) -> GENERATION.incrementAndGet());
         return TICKING_MENUS.add(menu);
     }
 
@@ -53,6 +113,9 @@ public final class TickingManager {
      * @return <code>true</code> if successful, <code>false</code> if otherwise.
      */
     public static boolean remove(final Menu menu) {
+        STATS.remove(menu);
+        GENERATIONS.remove(menu);
+        IN_FLIGHT.remove(menu);
         return TICKING_MENUS.remove(menu);
     }
 
@@ -60,14 +123,16 @@ public final class TickingManager {
      * Begins the task running, called in {@link com.itsschatten.yggdrasil.menus.MenuUtils#initialize(Plugin)}.
      */
     public static void beginTicking() {
-        taskId = Bukkit.getScheduler().runTaskTimerAsynchronously(Utils.getInstance(), () -> {
-            if (TICKING_MENUS.isEmpty()) return;
-            TICKING_MENUS.forEach((menu) -> {
-                if (menu instanceof Ticking ticking) {
-                    ticking.tick();
-                }
-            });
-        }, 0, 1).getTaskId();
+        if (task != null) return;
+
+        final YggdrasilScheduler scheduler = Schedulers.get();
+        task = scheduler.runTimer(() -> {
+            apply();
+
+            if (!TICKING_MENUS.isEmpty() && COMPUTING.compareAndSet(false, true)) {
+                scheduler.runAsync(TickingManager::compute);
+            }
+        }, 1, 1);
     }
 
     /**
@@ -76,7 +141,7 @@ public final class TickingManager {
      * @param menu The Menu to cancel.
      */
     public static void cancel(final Menu<? extends MenuHolder> menu) {
-        TICKING_MENUS.remove(menu);
+        remove(menu);
     }
 
     /**
@@ -84,7 +149,249 @@ public final class TickingManager {
      */
     public static void cancelAll() {
         TICKING_MENUS.clear();
-        Bukkit.getScheduler().cancelTask(taskId);
+        STATS.clear();
+        GENERATIONS.clear();
+        IN_FLIGHT.clear();
+        READY.clear();
+
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Get the time the apply phase may spend per tick.
+     *
+     * @return The budget in nanoseconds.
+     */
+    public static long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Sets the time the apply phase may spend per tick, at least one frame is always applied per tick.
+     *
+     * @param budgetNanos The budget in nanoseconds.
+     */
+    public static void setBudgetNanos(final long budgetNanos) {
+        Validate.isTrue(budgetNanos >= 0, "The budget must not be negative.");
+        TickingManager.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Get the tick cost of a ticking menu.
+     *
+     * @param menu The menu.
+     * @return The {@link TickStats} for the menu, {@code null} if the menu isn't ticking.
+     */
+    public static @Nullable TickStats stats(final Menu<? extends MenuHolder> menu) {
+        return STATS.get(menu);
+    }
+
+    /**
+     * Computes a frame for every registered menu without a frame waiting to be applied, runs asynchronously.
+     */
+    private static void compute() {
+        try {
+            for (final Menu<? extends MenuHolder> menu : TICKING_MENUS) {
+                if (!(menu instanceof Ticking ticking) || IN_FLIGHT.containsKey(menu)) continue;
+
+                final Long generation = GENERATIONS.get(menu);
+                if (generation == null) continue;
+
+                final TickFrame frame = new TickFrame(menu.getSize());
+                final long start = System.nanoTime();
+                try {
+                    ticking.tick(frame);
+                } catch (final Exception ex) {
+                    Utils.logError(ex);
+                    continue;
+                }
+
+                final TickStats stats = STATS.get(menu);
+                if (stats != null) stats.compute(System.nanoTime() - start);
+
+                if (!frame.isEmpty() && isCurrent(menu, generation) && IN_FLIGHT.putIfAbsent(menu, generation) == null) {
+                    READY.add(new Computed(menu, frame, generation));
+                }
+            }
+        } finally {
+            COMPUTING.set(false);
+        }
+    }
+
+    /**
+     * Hands computed frames to the threads owning their viewers until the budget for this tick is spent, runs on the global thread.
+     * <p>
+     * Frames of menus whose viewer is owned by the global thread, every menu when not on Folia, are applied immediately.
+     */
+    private static void apply() {
+        final long start = System.nanoTime();
+
+        Computed computed;
+        while ((computed = READY.poll()) != null) {
+            final Menu<? extends MenuHolder> menu = computed.menu();
+            final long generation = computed.generation();
+            // The menu was canceled, or canceled and added again, after it was computed.
+            if (!isCurrent(menu, generation)) {
+                IN_FLIGHT.remove(menu, generation);
+                continue;
+            }
+
+            final TickFrame frame = computed.frame();
+            menu.executeForViewer(() -> applyFrame(menu, frame, generation), () -> IN_FLIGHT.remove(menu, generation));
+
+            if (System.nanoTime() - start >= budgetNanos) break;
+        }
+    }
+
+    /**
+     * Applies a frame to a menu, runs on the thread owning the menu's viewer.
+     *
+     * @param menu       The menu.
+     * @param frame      The frame.
+     * @param generation The generation of the menu the frame was computed for.
+     */
+    private static void applyFrame(final @NotNull Menu<? extends MenuHolder> menu, final @NotNull TickFrame frame, final long generation) {
+        final long start = System.nanoTime();
+        try {
+            // The menu may have been canceled, or canceled and added again, while the frame was handed over.
+            if (isCurrent(menu, generation)) frame.apply(menu);
+        } catch (final Exception ex) {
+            Utils.logError(ex);
+        } finally {
+            IN_FLIGHT.remove(menu, generation);
+        }
+
+        final TickStats stats = STATS.get(menu);
+        if (stats != null) stats.apply(System.nanoTime() - start);
+    }
+
+    /**
+     * Checks if a frame computed for a generation of a menu may still be applied.
+     *
+     * @param menu       The menu.
+     * @param generation The generation the frame was computed for.
+     * @return {@code true} if the menu is ticking and still has the same generation.
+     */
+    private static boolean isCurrent(final @NotNull Menu<? extends MenuHolder> menu, final long generation) {
+        final Long current = GENERATIONS.get(menu);
+        return current != null && current == generation;
+    }
+
+    /**
+     * A frame computed for a menu.
+     *
+     * @param menu       The menu.
+     * @param frame      The frame.
+     * @param generation The generation of the menu the frame was computed for.
+     */
+    private record Computed(Menu<? extends MenuHolder> menu, TickFrame frame, long generation) {
+    }
+
+    /**
+     * The time spent ticking a menu, updated every time it is ticked.
+     */
+    public static final class TickStats {
+
+        /**
+         * The nanoseconds spent in the last compute phase.
+         */
+        private volatile long lastComputeNanos;
+
+        /**
+         * The nanoseconds spent in the last apply phase.
+         */
+        private volatile long lastApplyNanos;
+
+        /**
+         * The total nanoseconds spent computing.
+         */
+        private volatile long totalComputeNanos;
+
+        /**
+         * The total nanoseconds spent applying.
+         */
+        private volatile long totalApplyNanos;
+
+        /**
+         * The number of times the menu was computed.
+         */
+        private volatile long ticks;
+
+        private TickStats() {
+        }
+
+        // Only ever written by the single running compute phase.
+        private void compute(final long nanos) {
+            lastComputeNanos = nanos;
+            totalComputeNanos += nanos;
+            ticks++;
+        }
+
+        // Only ever written by the thread owning the menu's viewer.
+        private void apply(final long nanos) {
+            lastApplyNanos = nanos;
+            totalApplyNanos += nanos;
+        }
+
+        /**
+         * Get the time spent in the last compute phase.
+         *
+         * @return The time in nanoseconds.
+         */
+        public long lastComputeNanos() {
+            return lastComputeNanos;
+        }
+
+        /**
+         * Get the time spent in the last apply phase.
+         *
+         * @return The time in nanoseconds.
+         */
+        public long lastApplyNanos() {
+            return lastApplyNanos;
+        }
+
+        /**
+         * Get the total time spent computing.
+         *
+         * @return The time in nanoseconds.
+         */
+        public long totalComputeNanos() {
+            return totalComputeNanos;
+        }
+
+        /**
+         * Get the total time spent applying.
+         *
+         * @return The time in nanoseconds.
+         */
+        public long totalApplyNanos() {
+            return totalApplyNanos;
+        }
+
+        /**
+         * Get the number of times the menu was ticked.
+         *
+         * @return The number of ticks.
+         */
+        public long ticks() {
+            return ticks;
+        }
+
+        @Override
+        public String toString() {
+            return "TickStats{" +
+                    "lastComputeNanos=" + lastComputeNanos +
+                    ", lastApplyNanos=" + lastApplyNanos +
+                    ", totalComputeNanos=" + totalComputeNanos +
+                    ", totalApplyNanos=" + totalApplyNanos +
+                    ", ticks=" + ticks +
+                    '}';
+        }
+
     }
 
 }
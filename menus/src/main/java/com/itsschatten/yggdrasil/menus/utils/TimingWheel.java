@@ -0,0 +1,339 @@
+package com.itsschatten.yggdrasil.menus.utils;
+
+import com.itsschatten.yggdrasil.Utils;
+import com.itsschatten.yggdrasil.scheduler.Schedulers;
+import com.itsschatten.yggdrasil.scheduler.YggdrasilScheduler;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A single repeating task that drives every menu and button animation.
+ * <p>
+ * Callbacks are bucketed by their period, every bucket fires all of its callbacks in one batch on ticks that are a multiple of the period.
+ * Pausing and resuming a callback only flips a flag, paused callbacks are dropped from their bucket the next time it fires.
+ * <p>
+ * The wheel is driven by a {@link Schedulers global task}, which runs on the global region thread on Folia,
+ * its state is only changed on that thread. Pausing and resuming callbacks from any other thread is handed over to it,
+ * callbacks that touch a menu must hand their work to the thread owning the menu's viewer, see {@link MenuInventory#executeForViewer(Runnable)}.
+ *
+ * @see ReschedulableTask
+ */
+public final class TimingWheel {
+
+    /**
+     * Buckets by their period.
+     */
+    private static final Map<Long, Bucket> BUCKETS = new HashMap<>();
+
+    /**
+     * Buckets in creation order, iterated every tick.
+     */
+    private static final List<Bucket> ORDERED = new ArrayList<>();
+
+    /**
+     * The task driving this wheel, {@code null} if the wheel isn't running.
+     */
+    private static volatile YggdrasilScheduler.Task task;
+
+    /**
+     * The number of ticks this wheel has been running for.
+     */
+    private static long tick;
+
+    /**
+     * The number of active callbacks.
+     */
+    private static int active;
+
+    /**
+     * The nanoseconds spent firing callbacks on the last tick.
+     */
+    private static long lastTickNanos;
+
+    /**
+     * A moving average of the nanoseconds spent firing callbacks per tick.
+     */
+    private static double averageTickNanos;
+
+    /**
+     * The number of callbacks fired on the last tick.
+     */
+    private static int lastFired;
+
+    private TimingWheel() {
+    }
+
+    /**
+     * Schedules a callback to be run every {@code period} ticks, starting the wheel if it isn't running.
+     *
+     * @param period   The period, in ticks, values lower than {@code 1} are treated as {@code 1}.
+     * @param runnable The callback.
+     * @return Returns the active {@link Entry} for the callback.
+     */
+    public static @NotNull Entry schedule(final long period, final @NotNull Runnable runnable) {
+        final Entry entry = new Entry(Math.max(1L, period), runnable);
+        entry.resume();
+        return entry;
+    }
+
+    /**
+     * Starts the task driving this wheel, called in {@link com.itsschatten.yggdrasil.menus.MenuUtils#initialize(org.bukkit.plugin.Plugin)}.
+     */
+    public static synchronized void start() {
+        if (task != null) return;
+
+        task = Schedulers.get().runTimer(TimingWheel::tick, 1, 1);
+    }
+
+    /**
+     * Stops the task driving this wheel and drops every callback.
+     */
+    public static void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        ORDERED.forEach(bucket -> bucket.entries.forEach(entry -> {
+            entry.active = false;
+            entry.queued = false;
+        }));
+        ORDERED.clear();
+        BUCKETS.clear();
+        active = 0;
+    }
+
+    /**
+     * Get the number of ticks this wheel has been running for.
+     *
+     * @return The current tick of the wheel.
+     */
+    public static long currentTick() {
+        return tick;
+    }
+
+    /**
+     * Get the number of active callbacks.
+     *
+     * @return The number of scheduled, un-paused, callbacks.
+     */
+    public static int activeCallbacks() {
+        return active;
+    }
+
+    /**
+     * Get the time spent firing callbacks on the last tick.
+     *
+     * @return The time in nanoseconds.
+     */
+    public static long lastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Get a moving average of the time spent firing callbacks per tick.
+     *
+     * @return The time in nanoseconds.
+     */
+    public static double averageTickNanos() {
+        return averageTickNanos;
+    }
+
+    /**
+     * Get the number of callbacks fired on the last tick.
+     *
+     * @return The number of callbacks.
+     */
+    public static int lastFired() {
+        return lastFired;
+    }
+
+    /**
+     * Advances the wheel by one tick, firing every bucket whose period divides the current tick.
+     */
+    private static void tick() {
+        final long start = System.nanoTime();
+        tick++;
+
+        int fired = 0;
+        boolean prune = false;
+        // Iterate by index, a callback may schedule a new bucket while we are firing.
+        for (int i = 0; i < ORDERED.size(); i++) {
+            final Bucket bucket = ORDERED.get(i);
+            if (tick % bucket.period != 0) continue;
+
+            fired += bucket.fire();
+            prune |= bucket.entries.isEmpty();
+        }
+
+        if (prune) {
+            ORDERED.removeIf(bucket -> {
+                if (!bucket.entries.isEmpty()) return false;
+                BUCKETS.remove(bucket.period);
+                return true;
+            });
+        }
+
+        lastFired = fired;
+        lastTickNanos = System.nanoTime() - start;
+        averageTickNanos = averageTickNanos == 0 ? lastTickNanos : averageTickNanos * 0.95 + lastTickNanos * 0.05;
+    }
+
+    /**
+     * Checks if the current thread drives the wheel, handing an action over to it otherwise.
+     *
+     * @param action The action to run on the thread driving the wheel.
+     * @return {@code true} if the action should run now, {@code false} if it was handed over.
+     */
+    private static boolean onWheelThread(final @NotNull Runnable action) {
+        final YggdrasilScheduler scheduler = Schedulers.get();
+        if (scheduler.isGlobalThread()) return true;
+
+        scheduler.run(action);
+        return false;
+    }
+
+    /**
+     * A callback scheduled on the wheel.
+     */
+    public static final class Entry {
+
+        /**
+         * The period of this callback, in ticks.
+         */
+        private final long period;
+
+        /**
+         * The callback.
+         */
+        private final Runnable runnable;
+
+        /**
+         * If this callback should be fired.
+         */
+        private boolean active;
+
+        /**
+         * If this callback is currently held by its bucket.
+         */
+        private boolean queued;
+
+        private Entry(final long period, final Runnable runnable) {
+            this.period = period;
+            this.runnable = runnable;
+        }
+
+        /**
+         * Stops this callback from being fired until it is {@link #resume() resumed}.
+         */
+        public void pause() {
+            if (!onWheelThread(this::pause)) return;
+            if (!active) return;
+
+            active = false;
+            TimingWheel.active--;
+        }
+
+        /**
+         * Resumes firing this callback, starting the wheel if it isn't running (such as after it was {@link #stop() stopped}).
+         */
+        public void resume() {
+            if (!onWheelThread(this::resume)) return;
+            if (task == null) start();
+            if (active) return;
+
+            active = true;
+            TimingWheel.active++;
+
+            if (!queued) {
+                queued = true;
+                BUCKETS.computeIfAbsent(period, (key) -> {
+                    final Bucket bucket = new Bucket(key);
+                    ORDERED.add(bucket);
+                    return bucket;
+                }).entries.add(this);
+            }
+        }
+
+        /**
+         * Is this callback being fired?
+         *
+         * @return {@code true} if this callback is not paused.
+         */
+        public boolean isActive() {
+            return active;
+        }
+
+        /**
+         * Get the period of this callback.
+         *
+         * @return The period in ticks.
+         */
+        public long period() {
+            return period;
+        }
+
+    }
+
+    /**
+     * All callbacks sharing a period.
+     */
+    private static final class Bucket {
+
+        /**
+         * The period of this bucket.
+         */
+        private final long period;
+
+        /**
+         * The callbacks in this bucket, may contain paused callbacks until the bucket next fires.
+         */
+        private final List<Entry> entries = new ArrayList<>();
+
+        private Bucket(final long period) {
+            this.period = period;
+        }
+
+        /**
+         * Fires all active callbacks and drops paused callbacks.
+         *
+         * @return The number of callbacks fired.
+         */
+        private int fire() {
+            final int size = entries.size();
+            int write = 0;
+            int fired = 0;
+
+            for (int read = 0; read < size; read++) {
+                final Entry entry = entries.get(read);
+                if (!entry.active) {
+                    entry.queued = false;
+                    continue;
+                }
+
+                entries.set(write++, entry);
+                try {
+                    entry.runnable.run();
+                } catch (final Throwable throwable) {
+                    Utils.logError(throwable);
+                    entry.pause();
+                }
+                fired++;
+            }
+
+            // Keep any callbacks that were added while firing.
+            for (int read = size; read < entries.size(); read++) {
+                entries.set(write++, entries.get(read));
+            }
+            entries.subList(write, entries.size()).clear();
+
+            return fired;
+        }
+
+    }
+
+}
@@ -28,6 +28,8 @@ dependencies {
     implementation(project(":common"))
     implementation(project(":menus"))
     implementation(project(":wands"))
+
+    implementation(libs.configurate)
 }
 
 
@@ -1,5 +1,6 @@
 package com.itsschatten.yggdrasil;
 
+import com.itsschatten.yggdrasil.commands.MenuMetricsCommand;
 import com.itsschatten.yggdrasil.commands.YggdrasilTestCommand;
 import com.itsschatten.yggdrasil.menus.MenuUtils;
 import com.itsschatten.yggdrasil.wands.WandUtils;
@@ -19,7 +20,9 @@ public final class YggdrasilPlugin extends JavaPlugin {
         // Plugin startup logic
         getLifecycleManager().registerEventHandler(LifecycleEvents.COMMANDS, (event) -> {
             final Commands registrar = event.registrar();
-            new YggdrasilTestCommand().register(registrar);
+            final YggdrasilTestCommand command = new YggdrasilTestCommand();
+            command.addSubCommand(new MenuMetricsCommand());
+            command.register(registrar);
         });
     }
 
@@ -0,0 +1,159 @@
+package com.itsschatten.yggdrasil.commands;
+
+import com.itsschatten.yggdrasil.Utils;
+import com.itsschatten.yggdrasil.menus.utils.LatencyHistogram;
+import com.itsschatten.yggdrasil.menus.utils.MenuMetrics;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import io.papermc.paper.command.brigadier.CommandSourceStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Admin command to inspect the {@link MenuMetrics} recorded for menus and buttons.
+ */
+public final class MenuMetricsCommand extends BrigadierCommand {
+
+    /**
+     * The number of entries shown when no limit is provided.
+     */
+    private static final int DEFAULT_LIMIT = 10;
+
+    public MenuMetricsCommand() {
+        super("Shows the menus and buttons that cost the most.");
+        permission("yggdrasil.admin.metrics");
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> command() {
+        return literal("metrics")
+                .executes(context -> {
+                    menus(context.getSource(), DEFAULT_LIMIT);
+                    return SUCCESS;
+                })
+                .then(literal("menus")
+                        .executes(context -> {
+                            menus(context.getSource(), DEFAULT_LIMIT);
+                            return SUCCESS;
+                        })
+                        .then(argument("limit", IntegerArgumentType.integer(1, 100))
+                                .executes(context -> {
+                                    menus(context.getSource(), IntegerArgumentType.getInteger(context, "limit"));
+                                    return SUCCESS;
+                                })
+                        )
+                )
+                .then(literal("buttons")
+                        .executes(context -> {
+                            buttons(context.getSource(), DEFAULT_LIMIT);
+                            return SUCCESS;
+                        })
+                        .then(argument("limit", IntegerArgumentType.integer(1, 100))
+                                .executes(context -> {
+                                    buttons(context.getSource(), IntegerArgumentType.getInteger(context, "limit"));
+                                    return SUCCESS;
+                                })
+                        )
+                )
+                .then(literal("reset")
+                        .executes(context -> {
+                            MenuMetrics.reset();
+                            Utils.tell(context.getSource(), "<green>Menu metrics have been reset.");
+                            return SUCCESS;
+                        })
+                )
+                .then(literal("toggle")
+                        .executes(context -> {
+                            MenuMetrics.setEnabled(!MenuMetrics.isEnabled());
+                            Utils.tell(context.getSource(), MenuMetrics.isEnabled() ? "<green>Menu metrics are now recorded." : "<red>Menu metrics are no longer recorded.");
+                            return SUCCESS;
+                        })
+                );
+    }
+
+    /**
+     * Sends the menu classes with the most slot writes.
+     *
+     * @param source The source to send the menus to.
+     * @param limit  The maximum number of menus to send.
+     */
+    private void menus(final @NotNull CommandSourceStack source, final int limit) {
+        final List<String> lines = top(MenuMetrics.menus(), MenuMetrics.MenuStats::slotWrites, limit).stream()
+                .map(entry -> {
+                    final MenuMetrics.MenuStats stats = entry.getValue();
+                    return "<gray>" + entry.getKey().getName() + "</gray> <white>writes " + stats.slotWrites()
+                            + ", opens " + stats.opens() + ", refreshes " + stats.refreshes() + ", redraws " + stats.redraws()
+                            + ", buttons " + stats.buttonRegistrations() + ", frames " + stats.animationFrames()
+                            + ", clicks " + latency(stats.clicks());
+                })
+                .toList();
+
+        if (lines.isEmpty()) {
+            Utils.tell(source, "<red>No menu metrics have been recorded.");
+            return;
+        }
+
+        Utils.tell(source, "<yellow>Top " + lines.size() + " menus by slot writes" + (MenuMetrics.isEnabled() ? "" : " (recording disabled)") + ":", lines);
+    }
+
+    /**
+     * Sends the button classes with the slowest clicks.
+     *
+     * @param source The source to send the buttons to.
+     * @param limit  The maximum number of buttons to send.
+     */
+    private void buttons(final @NotNull CommandSourceStack source, final int limit) {
+        final List<String> lines = top(MenuMetrics.buttons(), (histogram) -> histogram.percentileNanos(99), limit).stream()
+                .map(entry -> "<gray>" + entry.getKey().getName() + "</gray> <white>" + latency(entry.getValue()))
+                .toList();
+
+        if (lines.isEmpty()) {
+            Utils.tell(source, "<red>No button clicks have been recorded.");
+            return;
+        }
+
+        Utils.tell(source, "<yellow>Top " + lines.size() + " buttons by p99 click latency" + (MenuMetrics.isEnabled() ? "" : " (recording disabled)") + ":", lines);
+    }
+
+    /**
+     * Sorts entries by a value, largest first.
+     *
+     * @param entries The entries.
+     * @param value   The value to sort by.
+     * @param limit   The maximum number of entries.
+     * @param <V>     The type of value.
+     * @return The sorted entries.
+     */
+    private <V> @NotNull List<Map.Entry<Class<?>, V>> top(final @NotNull Map<Class<?>, V> entries, final ToLongFunction<V> value, final int limit) {
+        final List<Map.Entry<Class<?>, V>> sorted = new ArrayList<>(entries.entrySet());
+        sorted.sort(Comparator.comparingLong((Map.Entry<Class<?>, V> entry) -> value.applyAsLong(entry.getValue())).reversed());
+        return sorted.subList(0, Math.min(limit, sorted.size()));
+    }
+
+    /**
+     * Formats a histogram for chat.
+     *
+     * @param histogram The histogram.
+     * @return The count, mean, p99 and max of the histogram.
+     */
+    private @NotNull String latency(final @NotNull LatencyHistogram histogram) {
+        return histogram.count() + " (mean " + micros(histogram.meanNanos()) + ", p99 " + micros(histogram.percentileNanos(99))
+                + ", max " + micros(histogram.maxNanos()) + ")";
+    }
+
+    /**
+     * Formats nanoseconds as microseconds.
+     *
+     * @param nanos The nanoseconds.
+     * @return The formatted microseconds.
+     */
+    private @NotNull String micros(final long nanos) {
+        return String.format("%.1fus", nanos / 1_000D);
+    }
+
+}
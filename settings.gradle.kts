@@ -7,3 +7,4 @@ include("anvilgui")
 include("velocity")
 include("plugin")
 include("bom")
+include("benchmarks")